@@ -24,11 +24,16 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.Plugin;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 public class BukkitLanguageConfig extends LanguageConfig<FileConfiguration> {
@@ -47,12 +52,12 @@ public class BukkitLanguageConfig extends LanguageConfig<FileConfiguration> {
 
     @Override
     public void loadConfig() {
-        if (configFile != null && configFile.exists()) {
-            config = YamlConfiguration.loadConfiguration(configFile);
-            if (defaultConfig != null) {
-                config.setDefaults(defaultConfig);
-            }
+        try {
+            loadMessages();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not load " + configFile, e);
         }
+        clearCache();
     }
 
     @Override
@@ -64,18 +69,15 @@ public class BukkitLanguageConfig extends LanguageConfig<FileConfiguration> {
                 }
                 return false;
             }
-            defaultConfig = config = YamlConfiguration.loadConfiguration(new InputStreamReader(in));
-            if (saveFile && !configFile.exists()) {
-                File parent = configFile.getParentFile();
-                if (!parent.exists()) {
-                    parent.mkdirs();
-                }
-                try {
-                    defaultConfig.save(configFile);
-                    return true;
-                } catch (IOException ex) {
-                    plugin.getLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
-                }
+            byte[] content = readResource(in);
+            this.defaultConfig = null;
+            if (!useCatalogs()) {
+                loadDefaults();
+            }
+            try {
+                return saveResource(content);
+            } catch (IOException ex) {
+                plugin.getLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
             }
         } catch (IOException ex) {
             plugin.getLogger().log(Level.SEVERE, "Could not load default config from " + resourcePath, ex);
@@ -83,6 +85,15 @@ public class BukkitLanguageConfig extends LanguageConfig<FileConfiguration> {
         return false;
     }
 
+    @Override
+    protected FileConfiguration parse(byte[] content, FileConfiguration defaults) {
+        FileConfiguration config = YamlConfiguration.loadConfiguration(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+        if (defaults != null) {
+            config.setDefaults(defaults);
+        }
+        return config;
+    }
+
     @Override
     public boolean contains(String key) {
         return contains(key, false);
@@ -90,31 +101,48 @@ public class BukkitLanguageConfig extends LanguageConfig<FileConfiguration> {
 
     @Override
     public boolean contains(String key, boolean checkDefault) {
-        if (checkDefault) {
-            return config.contains(key);
-        }
-        return config.get(key, null) != null;
+        return getMessages().contains(key, checkDefault);
     }
 
     @Override
     public String get(String key) {
-        String string = null;
-        if (config.isString(key)) {
-            string = config.getString(key);
-        } else if (config.isList(key)) {
-            List<String> stringList = config.getStringList(key);
-            if (stringList != null) {
-                string = String.join("\n", stringList);
-            }
-        }
-        if (string == null) {
-            return ChatColor.RED + "Missing language key " + ChatColor.YELLOW + key + ChatColor.RED + " for locale " + ChatColor.YELLOW + getLocale();
-        }
-        return string;
+        String string = getMessages().get(key);
+        return string != null ? string : getFallbackOrMissing(key);
+    }
+
+    @Override
+    protected String createMissingMessage(String key) {
+        return ChatColor.RED + "Missing language key " + ChatColor.YELLOW + key + ChatColor.RED + " for locale " + ChatColor.YELLOW + getLocale();
     }
 
     @Override
     public FileConfiguration getRawConfig() {
-        return config;
+        try {
+            return loadRawConfig();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not load " + configFile, e);
+            return config;
+        }
+    }
+
+    @Override
+    protected Map<String, String> flatten(FileConfiguration config) {
+        Map<String, String> messages = new HashMap<>();
+        for (Map.Entry<String, Object> entry : config.getValues(true).entrySet()) {
+            String string = null;
+            if (entry.getValue() instanceof String) {
+                string = (String) entry.getValue();
+            } else if (entry.getValue() instanceof List) {
+                List<String> stringList = new ArrayList<>();
+                for (Object o : (List<?>) entry.getValue()) {
+                    if (o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Character) {
+                        stringList.add(String.valueOf(o));
+                    }
+                }
+                string = String.join("\n", stringList);
+            }
+            messages.put(entry.getKey(), string);
+        }
+        return messages;
     }
 }
@@ -23,6 +23,12 @@ import de.themoep.utils.lang.LanguageManagerCore;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.IllegalPluginAccessException;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
@@ -30,6 +36,7 @@ import java.util.logging.Level;
 
 public class LanguageManager extends LanguageManagerCore<CommandSender, FileConfiguration> {
     private final Plugin plugin;
+    private volatile boolean cacheConfigs = false;
 
     public LanguageManager(Plugin plugin, String defaultLocale, BukkitLanguageConfig... configs) {
         this(plugin, "languages", defaultLocale, configs);
@@ -60,6 +67,36 @@ public class LanguageManager extends LanguageManagerCore<CommandSender, FileConf
         loadConfigs();
     }
 
+    /**
+     * Cache the language config of each player instead of querying the provider every time
+     * and register the listeners required to keep the cache up to date. Listeners are only registered once.
+     * @return Whether or not the cache is enabled, it can't be if the plugin isn't enabled yet
+     *          or the server doesn't support locale change events
+     */
+    public synchronized boolean enableConfigCache() {
+        if (!cacheConfigs) {
+            try {
+                // Registering listeners for missing events only logs an error instead of failing
+                Class.forName("org.bukkit.event.player.PlayerLocaleChangeEvent");
+            } catch (ClassNotFoundException e) {
+                plugin.getLogger().log(Level.WARNING, "Unable to cache player language configs as the server doesn't support locale change events");
+                return false;
+            }
+            try {
+                plugin.getServer().getPluginManager().registerEvents(new ConfigCacheListener(), plugin);
+                cacheConfigs = true;
+            } catch (IllegalPluginAccessException e) {
+                plugin.getLogger().log(Level.WARNING, "Unable to cache player language configs: " + e.getMessage());
+            }
+        }
+        return cacheConfigs;
+    }
+
+    @Override
+    protected boolean isConfigCached(CommandSender sender) {
+        return cacheConfigs && sender instanceof Player && ((Player) sender).isOnline();
+    }
+
     @Override
     public void loadConfigs() {
         loadConfigs(plugin.getClass(), new LangLogger() {
@@ -75,4 +112,21 @@ public class LanguageManager extends LanguageManagerCore<CommandSender, FileConf
         }, locale -> new BukkitLanguageConfig(plugin, getResourceFolder(),
                 new File(getFolder(), filePrefix + locale + fileSuffix), locale, saveFiles));
     }
+
+    public class ConfigCacheListener implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onLocaleChange(PlayerLocaleChangeEvent event) {
+            clearCachedConfig(event.getPlayer());
+            // The event is called before the player's locale is updated, clear it again afterwards
+            plugin.getServer().getScheduler().runTask(plugin, () -> clearCachedConfig(event.getPlayer()));
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onQuit(PlayerQuitEvent event) {
+            clearCachedConfig(event.getPlayer());
+            // The player is still online while the event is called, remove configs cached by later listeners too
+            plugin.getServer().getScheduler().runTask(plugin, () -> clearCachedConfig(event.getPlayer()));
+        }
+    }
 }
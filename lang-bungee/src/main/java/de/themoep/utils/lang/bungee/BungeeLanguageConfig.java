@@ -25,10 +25,14 @@ import net.md_5.bungee.config.Configuration;
 import net.md_5.bungee.config.ConfigurationProvider;
 import net.md_5.bungee.config.YamlConfiguration;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 public class BungeeLanguageConfig extends LanguageConfig<Configuration> {
@@ -49,13 +53,12 @@ public class BungeeLanguageConfig extends LanguageConfig<Configuration> {
 
     @Override
     public void loadConfig() {
-        if (configFile != null && configFile.exists()) {
-            try {
-                config = yml.load(configFile, defaultConfig);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        try {
+            loadMessages();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+        clearCache();
     }
 
     @Override
@@ -67,18 +70,15 @@ public class BungeeLanguageConfig extends LanguageConfig<Configuration> {
                 }
                 return false;
             }
-            defaultConfig = config = yml.load(in);
-            if (saveFile && !configFile.exists()) {
-                File parent = configFile.getParentFile();
-                if (!parent.exists()) {
-                    parent.mkdirs();
-                }
-                try {
-                    yml.save(config, configFile);
-                    return true;
-                } catch (IOException ex) {
-                    plugin.getLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
-                }
+            byte[] content = readResource(in);
+            this.defaultConfig = null;
+            if (!useCatalogs()) {
+                loadDefaults();
+            }
+            try {
+                return saveResource(content);
+            } catch (IOException ex) {
+                plugin.getLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
             }
         } catch (IOException ex) {
             plugin.getLogger().log(Level.SEVERE, "Could not load default config from " + resourcePath, ex);
@@ -86,6 +86,11 @@ public class BungeeLanguageConfig extends LanguageConfig<Configuration> {
         return false;
     }
 
+    @Override
+    protected Configuration parse(byte[] content, Configuration defaults) {
+        return yml.load(new ByteArrayInputStream(content), defaults);
+    }
+
     @Override
     public boolean contains(String key) {
         return contains(key, false);
@@ -93,29 +98,53 @@ public class BungeeLanguageConfig extends LanguageConfig<Configuration> {
 
     @Override
     public boolean contains(String key, boolean checkDefault) {
-        return config.contains(key) || (checkDefault && defaultConfig != null && defaultConfig.contains(key));
+        return getMessages().contains(key, checkDefault);
     }
 
     @Override
     public String get(String key) {
-        Object o = config.get(key);
-        String string = null;
-        if (o instanceof String) {
-            string = (String) o;
-        } else if (o instanceof List) {
-            List<String> stringList = (List<String>) o;
-            if (stringList != null) {
-                string = String.join("\n", stringList);
-            }
-        }
-        if (string == null) {
-            return ChatColor.RED + "Missing language key " + ChatColor.YELLOW + key + ChatColor.RED + " for locale " + ChatColor.YELLOW + getLocale();
-        }
-        return string;
+        String string = getMessages().get(key);
+        return string != null ? string : getFallbackOrMissing(key);
+    }
+
+    @Override
+    protected String createMissingMessage(String key) {
+        return ChatColor.RED + "Missing language key " + ChatColor.YELLOW + key + ChatColor.RED + " for locale " + ChatColor.YELLOW + getLocale();
     }
 
     @Override
     public Configuration getRawConfig() {
-        return config;
+        try {
+            return loadRawConfig();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return config;
+        }
+    }
+
+    @Override
+    protected Map<String, String> flatten(Configuration config) {
+        Map<String, String> messages = new HashMap<>();
+        flatten(messages, "", config);
+        return messages;
+    }
+
+    private static void flatten(Map<String, String> messages, String prefix, Configuration config) {
+        for (String key : config.getKeys()) {
+            Object o = config.get(key);
+            String string = null;
+            if (o instanceof Configuration) {
+                flatten(messages, prefix + key + ".", (Configuration) o);
+            } else if (o instanceof String) {
+                string = (String) o;
+            } else if (o instanceof List) {
+                List<String> stringList = new ArrayList<>();
+                for (Object line : (List<?>) o) {
+                    stringList.add(String.valueOf(line));
+                }
+                string = String.join("\n", stringList);
+            }
+            messages.put(prefix + key, string);
+        }
     }
 }
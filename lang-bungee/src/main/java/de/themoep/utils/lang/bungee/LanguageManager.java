@@ -22,14 +22,20 @@ import de.themoep.utils.lang.LangLogger;
 import de.themoep.utils.lang.LanguageManagerCore;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.event.SettingsChangedEvent;
+import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.config.Configuration;
+import net.md_5.bungee.event.EventHandler;
+import net.md_5.bungee.event.EventPriority;
 
 import java.io.File;
 import java.util.logging.Level;
 
 public class LanguageManager extends LanguageManagerCore<CommandSender, Configuration> {
     private final Plugin plugin;
+    private volatile boolean cacheConfigs = false;
 
     public LanguageManager(Plugin plugin, String defaultLocale, BungeeLanguageConfig... configs) {
         this(plugin, "languages", defaultLocale, configs);
@@ -58,6 +64,24 @@ public class LanguageManager extends LanguageManagerCore<CommandSender, Configur
         loadConfigs();
     }
 
+    /**
+     * Cache the language config of each player instead of querying the provider every time
+     * and register the listeners required to keep the cache up to date. Listeners are only registered once.
+     * @return Whether or not the cache is enabled
+     */
+    public synchronized boolean enableConfigCache() {
+        if (!cacheConfigs) {
+            plugin.getProxy().getPluginManager().registerListener(plugin, new ConfigCacheListener());
+            cacheConfigs = true;
+        }
+        return cacheConfigs;
+    }
+
+    @Override
+    protected boolean isConfigCached(CommandSender sender) {
+        return cacheConfigs && sender instanceof ProxiedPlayer && ((ProxiedPlayer) sender).isConnected();
+    }
+
     @Override
     public void loadConfigs() {
         loadConfigs(plugin.getClass(), new LangLogger() {
@@ -73,4 +97,17 @@ public class LanguageManager extends LanguageManagerCore<CommandSender, Configur
         }, locale -> new BungeeLanguageConfig(plugin, getResourceFolder(),
                 new File(getFolder(), filePrefix + locale + fileSuffix), locale, saveFiles));
     }
+
+    public class ConfigCacheListener implements Listener {
+
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void onSettingsChange(SettingsChangedEvent event) {
+            clearCachedConfig(event.getPlayer());
+        }
+
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void onDisconnect(PlayerDisconnectEvent event) {
+            clearCachedConfig(event.getPlayer());
+        }
+    }
 }
@@ -18,25 +18,69 @@ package de.themoep.utils.lang;
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * A config holding all messages of one locale.
+ * <p>
+ * Getting messages is safe to do from multiple threads at once. Implementations should only replace
+ * {@link #config} and {@link #defaultConfig} with fully loaded objects and never modify them afterwards.
+ * @param <C> The configuration type
+ */
 public abstract class LanguageConfig<C> {
-    private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>();
-
+    private static final LanguageConfig<?>[] NO_FALLBACKS = new LanguageConfig<?>[0];
+    private static final MessageTemplate[] NO_TEMPLATES = new MessageTemplate[0];
+    /** The maximum amount of remembered missing keys, keys might come from user input so there might be arbitrarily many */
+    private static final int MAX_MISSING_KEYS = 1024;
+    /** Whether or not messages should be loaded from compiled catalogs instead of parsing the language files */
+    private static final boolean USE_CATALOGS = Boolean.getBoolean("de.themoep.utils.lang.catalogs");
+    /** The name of the folder next to the config files which contains the compiled catalogs */
+    private static final String CATALOG_FOLDER = ".catalogs";
+    /** Set while a fallback without a message table is queried, chains are already flattened so fallbacks never need to fall back themselves */
+    private static final ThreadLocal<Boolean> IN_FALLBACK = new ThreadLocal<>();
     private final String locale;
     protected final String resourcePath;
     protected final File configFile;
     protected final boolean saveFile;
 
-    private String placeholderPrefix = "%";
-    private String placeholderSuffix = "%";
+    private volatile String placeholderPrefix = "%";
+    private volatile String placeholderSuffix = "%";
+
+    protected volatile C config;
+    protected volatile C defaultConfig;
+    private volatile LanguageConfig<?>[] fallbacks = NO_FALLBACKS;
+    /** The configs which fall back to this one, their caches need to be cleared when this config changes */
+    private volatile LanguageConfig<?>[] dependents = NO_FALLBACKS;
 
-    protected C config;
-    protected C defaultConfig;
+    private volatile Map<String, String> defaultMessages = Collections.emptyMap();
+    private volatile MessageTable messages = MessageTable.EMPTY;
+    /** The content of the default resource, kept to check whether the config file still is the same */
+    private volatile byte[] resourceContent = null;
+
+    /** Replaced instead of cleared so that a template compiled from an outdated config can never end up in the new cache */
+    private volatile Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+    /** Templates by the ordinal of their {@link MessageKey}, filled lazily and replaced like {@link #templates} */
+    private final AtomicReference<MessageTemplate[]> keyedTemplates = new AtomicReference<>(NO_TEMPLATES);
+    /** Keys which neither this config nor its fallbacks contain to their error message, replaced like {@link #templates} */
+    private volatile Map<String, String> missingMessages = new ConcurrentHashMap<>();
+    /** Messages split into their lines, replaced like {@link #templates} */
+    private volatile Map<String, Lines> lines = new ConcurrentHashMap<>();
+    /** Whether or not the config was requested from its manager since the last check for idle configs */
+    private volatile boolean used = false;
 
     protected LanguageConfig(String resourceFolder, File configFile, String locale) {
         this(resourceFolder, configFile, locale, true);
@@ -50,7 +94,8 @@ public abstract class LanguageConfig<C> {
     }
 
     /**
-     * Load the config from the file system
+     * Load the config from the file system.
+     * Implementations should call {@link #clearCache()} after the config was (re-)loaded.
      */
     public abstract void loadConfig();
 
@@ -76,12 +121,383 @@ public abstract class LanguageConfig<C> {
     public abstract boolean contains(String key, boolean checkDefault);
 
     /**
-     * Get a string from the config by its key
+     * Get a string from the config by its key.
+     * Implementations should use {@link #getFallbackOrMissing(String)} if neither this config nor its defaults contain the key.
      * @param key   The key of the string
      * @return The message or an error message if it doesn't exist; never null! (use {@link #contains(String)} to check existance)
      */
     public abstract String get(String key);
 
+    /**
+     * Get all messages of this config with the defaults merged in
+     * @return The message table, empty if the implementation doesn't use tables
+     */
+    public MessageTable getMessages() {
+        return messages;
+    }
+
+    /**
+     * Set the messages of this config. Called by implementations after the config was loaded.
+     * @param messages  All keys of the config to their message, keys without a message (e.g. sections) should map to null
+     */
+    protected synchronized void setMessages(Map<String, String> messages) {
+        this.messages = MessageTable.of(messages, defaultMessages);
+        clearCache();
+    }
+
+    /**
+     * Use the default messages as the messages of this config, e.g. because the config file is the same as the default resource
+     */
+    protected synchronized void setMessagesToDefaults() {
+        this.messages = MessageTable.of(defaultMessages, defaultMessages);
+        clearCache();
+    }
+
+    /**
+     * Read the content of the default resource. The content is kept so that {@link #readConfigFile()}
+     * can tell whether the config file is the same and the resource doesn't need to be parsed twice.
+     * @param in    The stream of the resource
+     * @return The content of the resource
+     * @throws IOException If the resource couldn't be read
+     */
+    protected byte[] readResource(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(in.available(), 1024));
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        byte[] content = out.toByteArray();
+        resourceContent = content;
+        return content;
+    }
+
+    /**
+     * Copy the default resource to the config file if files should be saved and it doesn't exist yet.
+     * The content is written as it is so the file keeps the comments and formatting of the resource.
+     * @param content   The content of the resource
+     * @return Whether or not the file was saved
+     * @throws IOException If the file couldn't be written
+     */
+    protected boolean saveResource(byte[] content) throws IOException {
+        if (!saveFile || configFile.exists()) {
+            return false;
+        }
+        Path path = configFile.toPath();
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, content, StandardOpenOption.CREATE_NEW);
+        return true;
+    }
+
+    /**
+     * Get the content of the default resource as it was read by {@link #readResource(InputStream)}
+     * @return The content or null if there is no default resource
+     */
+    protected byte[] getResourceContent() {
+        return resourceContent;
+    }
+
+    /**
+     * Check whether or not messages should be loaded from compiled catalogs.
+     * Can be enabled with the <code>de.themoep.utils.lang.catalogs</code> system property.
+     * Implementations which support catalogs should only parse the raw config when it is requested
+     * if the messages were loaded from a catalog.
+     * @return Whether or not to use catalogs
+     */
+    protected boolean useCatalogs() {
+        return USE_CATALOGS && configFile != null;
+    }
+
+    /**
+     * Load the messages from the compiled catalog if it was compiled from the current language files
+     * @param fileContent   The content of the config file as returned by {@link #readConfigFile()}
+     * @return Whether or not the messages were loaded from the catalog
+     * @throws IOException If the catalog exists but couldn't be read
+     */
+    protected boolean loadCatalog(byte[] fileContent) throws IOException {
+        if (!useCatalogs()) {
+            return false;
+        }
+        MessageCatalog catalog = MessageCatalog.read(getCatalogFile(), MessageCatalog.hash(resourceContent, fileContent),
+                placeholderPrefix, placeholderSuffix);
+        if (catalog == null) {
+            return false;
+        }
+        synchronized (this) {
+            defaultMessages = catalog.getDefaultMessages();
+            messages = catalog.getMessages();
+            clearCache();
+            templates.putAll(catalog.getTemplates());
+        }
+        return true;
+    }
+
+    /**
+     * Compile the current messages into a catalog so that the language files don't need to be parsed on the next load
+     * @param fileContent   The content of the config file that the messages were loaded from as returned by {@link #readConfigFile()}
+     * @throws IOException If the catalog couldn't be written
+     */
+    protected void saveCatalog(byte[] fileContent) throws IOException {
+        if (useCatalogs()) {
+            MessageCatalog.write(getCatalogFile(), MessageCatalog.hash(resourceContent, fileContent),
+                    placeholderPrefix, placeholderSuffix, defaultMessages, messages);
+        }
+    }
+
+    private Path getCatalogFile() {
+        Path parent = configFile.toPath().getParent();
+        Path folder = parent != null ? parent.resolve(CATALOG_FOLDER) : Paths.get(CATALOG_FOLDER);
+        return folder.resolve(configFile.getName() + ".bin");
+    }
+
+    /**
+     * Read the content of the config file
+     * @return The content of the file or <code>null</code> if it is the same as the default resource,
+     *          in that case the already parsed default config should be used
+     * @throws IOException If the file couldn't be read
+     */
+    protected byte[] readConfigFile() throws IOException {
+        byte[] content = Files.readAllBytes(configFile.toPath());
+        return Arrays.equals(content, resourceContent) ? null : content;
+    }
+
+    /**
+     * Parse the content of a language file
+     * @param content   The content of the file
+     * @param defaults  The parsed default resource that the config should fall back to or <code>null</code> if there is none
+     * @return The parsed config
+     * @throws IOException If the content couldn't be parsed
+     */
+    protected abstract C parse(byte[] content, C defaults) throws IOException;
+
+    /**
+     * Parse the content of the default resource. Uses {@link #parse(byte[], Object)} without defaults by default.
+     * @param content   The content of the resource as returned by {@link #readResource(InputStream)}
+     * @return The parsed default config
+     * @throws IOException If the content couldn't be parsed
+     */
+    protected C parseDefaults(byte[] content) throws IOException {
+        return parse(content, null);
+    }
+
+    /**
+     * Flatten a parsed config into a map of all keys to their message
+     * @param config    The config to flatten, its defaults shouldn't be included
+     * @return The messages of the config, keys which aren't messages (e.g. sections) should map to null
+     */
+    protected abstract Map<String, String> flatten(C config);
+
+    /**
+     * Check whether or not the config file should be loaded
+     * @return Whether or not the config file exists and should be loaded
+     */
+    protected boolean useConfigFile() {
+        return configFile != null && configFile.exists();
+    }
+
+    /**
+     * Load the messages of the config file, or only the ones of the default resource if there is no file.
+     * If they are loaded from the {@link #loadCatalog(byte[]) catalog} the raw config is only parsed
+     * when it is requested with {@link #loadRawConfig()}.
+     * @throws IOException If a file couldn't be read or parsed
+     */
+    protected void loadMessages() throws IOException {
+        if (useConfigFile()) {
+            byte[] content = readConfigFile();
+            if (loadCatalog(content)) {
+                synchronized (this) {
+                    defaultConfig = config = null;
+                }
+            } else {
+                loadDefaults();
+                if (content == null) {
+                    // Same as the default resource which was already loaded
+                    this.config = defaultConfig;
+                    setMessagesToDefaults();
+                } else {
+                    C config = parse(content, defaultConfig);
+                    this.config = config;
+                    setMessages(flatten(config));
+                }
+                saveCatalog(content);
+            }
+        } else {
+            loadDefaults();
+        }
+    }
+
+    /**
+     * Parse the default resource and use its messages if it wasn't parsed yet
+     * @throws IOException If the resource couldn't be parsed
+     */
+    protected void loadDefaults() throws IOException {
+        byte[] resourceContent = this.resourceContent;
+        if (defaultConfig == null && resourceContent != null) {
+            defaultConfig = config = parseDefaults(resourceContent);
+            Map<String, String> defaultMessages = flatten(defaultConfig);
+            setDefaultMessages(defaultMessages);
+            setMessages(defaultMessages);
+        }
+    }
+
+    /**
+     * Get the raw config, it is parsed first if the messages were loaded from a catalog
+     * @return The raw config
+     * @throws IOException If a file couldn't be read or parsed
+     */
+    protected C loadRawConfig() throws IOException {
+        C config = this.config;
+        if (config != null || !useCatalogs()) {
+            return config;
+        }
+        synchronized (this) {
+            if (this.config == null) {
+                C defaultConfig = resourceContent != null ? parseDefaults(resourceContent) : null;
+                byte[] content = useConfigFile() ? readConfigFile() : null;
+                this.defaultConfig = defaultConfig;
+                this.config = content != null ? parse(content, defaultConfig) : defaultConfig;
+            }
+            return this.config;
+        }
+    }
+
+    /**
+     * Set the default messages of this config which are merged into the messages
+     * @param defaultMessages   All keys of the default config to their message
+     */
+    protected synchronized void setDefaultMessages(Map<String, String> defaultMessages) {
+        this.defaultMessages = MessageTable.toStorage(new HashMap<>(defaultMessages));
+        this.messages = messages.withDefaults(this.defaultMessages);
+        clearCache();
+    }
+
+    /**
+     * Check whether or not the message of a key is not translated and taken from the defaults instead
+     * @param key   The key of the string
+     * @return <code>true</code> if the message is taken from the default config
+     */
+    public boolean isDefault(String key) {
+        return messages.isDefault(key);
+    }
+
+    /**
+     * Get a string from the first fallback config which contains the key
+     * @param key   The key of the string
+     * @return The message or <code>null</code> if none of the fallback configs contain it
+     */
+    protected String getFallback(String key) {
+        for (LanguageConfig<?> fallback : fallbacks) {
+            String string;
+            if (fallback.messages != MessageTable.EMPTY) {
+                string = fallback.messages.get(key);
+            } else {
+                string = getWithoutFallback(fallback, key);
+            }
+            if (string != null) {
+                return string;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get a string which this config doesn't contain from the fallback configs or the error message if none of them contain it.
+     * Keys which are missing everywhere are remembered until the config is reloaded, so the fallbacks
+     * aren't searched again and the error message is only created once per key.
+     * @param key   The key of the string
+     * @return The message from the fallbacks or the error message; never null
+     */
+    protected String getFallbackOrMissing(String key) {
+        Map<String, String> missingMessages = this.missingMessages;
+        String string = missingMessages.get(key);
+        if (string == null) {
+            string = getFallback(key);
+            if (string == null) {
+                string = createMissingMessage(key);
+                if (missingMessages.size() < MAX_MISSING_KEYS) {
+                    missingMessages.put(key, string);
+                }
+            }
+        }
+        return string;
+    }
+
+    /**
+     * Create the error message that is returned for a key which neither this config nor its fallbacks contain
+     * @param key   The key of the string
+     * @return The error message
+     */
+    protected String createMissingMessage(String key) {
+        return "Missing language key " + key + " for locale " + getLocale();
+    }
+
+    /**
+     * Get a string from a config which doesn't use a message table without checking its fallbacks
+     */
+    private static String getWithoutFallback(LanguageConfig<?> config, String key) {
+        if (IN_FALLBACK.get() != null || !config.contains(key, true)) {
+            return null;
+        }
+        IN_FALLBACK.set(Boolean.TRUE);
+        try {
+            return config.get(key);
+        } finally {
+            IN_FALLBACK.remove();
+        }
+    }
+
+    /**
+     * Get the configs that are used when this config doesn't contain a key, in the order they are checked.
+     * The chain is computed by the {@link LanguageManagerCore} when configs are added or the default locale changes,
+     * e.g. <code>de_at</code> falls back to <code>de_de</code>, then <code>de</code> and then the default locale.
+     * @return An unmodifiable list of the fallback configs
+     */
+    public List<LanguageConfig<?>> getFallbacks() {
+        return Collections.unmodifiableList(Arrays.asList(fallbacks));
+    }
+
+    /**
+     * Set the configs that are used when this config doesn't contain a key
+     * @param fallbacks The fallback configs in the order they should be checked
+     */
+    void setFallbacks(LanguageConfig<?>[] fallbacks) {
+        if (!Arrays.equals(this.fallbacks, fallbacks)) {
+            this.fallbacks = fallbacks.length > 0 ? fallbacks : NO_FALLBACKS;
+            // Only affects this config, the configs which fall back to it have their own chain
+            resetFallbackCaches();
+        }
+    }
+
+    /**
+     * Set the configs which fall back to this one
+     * @param dependents    The configs which have this one in their fallback chain
+     */
+    void setDependents(LanguageConfig<?>[] dependents) {
+        this.dependents = dependents.length > 0 ? dependents : NO_FALLBACKS;
+    }
+
+    /**
+     * Mark that this config was requested from its manager
+     */
+    void markUsed() {
+        // Only write when necessary so that the cache line isn't invalidated on every request
+        if (!used) {
+            used = true;
+        }
+    }
+
+    /**
+     * Check whether or not this config was requested since the last check
+     * @return Whether or not it was used, the flag is reset afterwards
+     */
+    boolean resetUsed() {
+        boolean used = this.used;
+        this.used = false;
+        return used;
+    }
+
     /**
      * Get the raw config object
      * @return The raw config object
@@ -95,7 +511,31 @@ public abstract class LanguageConfig<C> {
      * @return The message with the placeholders replaced
      */
     public String get(String key, String... replacements) {
-        return replace(get(key), replacements);
+        return getTemplate(key).render(replacements);
+    }
+
+    /**
+     * Append a message from the config directly to a string builder without creating intermediate strings
+     * @param key           The key of the string
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(String key, StringBuilder out, String... replacements) {
+        return getTemplate(key).render(out, replacements);
+    }
+
+    /**
+     * Append a message from the config directly to an appendable without creating intermediate strings
+     * @param key           The key of the string
+     * @param out           The appendable to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @param <A>           The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     */
+    public <A extends Appendable> A render(String key, A out, String... replacements) throws IOException {
+        return getTemplate(key).render(out, replacements);
     }
 
     /**
@@ -105,36 +545,270 @@ public abstract class LanguageConfig<C> {
      * @return The message with the placeholders replaced
      */
     public String get(String key, Map<String, String> replacements) {
-        String[] replacementArray = new String[replacements.size() * 2];
-        int i = 0;
-        for (Map.Entry<String, String> entry : replacements.entrySet()) {
-            replacementArray[i] = entry.getKey();
-            i++;
-            replacementArray[i] = entry.getValue();
-            i++;
+        return getTemplate(key).render(PlaceholderResolver.of(replacements));
+    }
+
+    /**
+     * Get a string from the config by its key
+     * @param key           The key of the string
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @return The message with the placeholders replaced
+     */
+    public String get(String key, PlaceholderResolver replacements) {
+        return getTemplate(key).render(replacements);
+    }
+
+    /**
+     * Append a message from the config directly to a string builder without creating intermediate strings
+     * @param key           The key of the string
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(String key, StringBuilder out, PlaceholderResolver replacements) {
+        return getTemplate(key).render(out, replacements);
+    }
+
+    /**
+     * Append a message from the config directly to an appendable
+     * @param key           The key of the string
+     * @param out           The appendable to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @param <A>           The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     */
+    public <A extends Appendable> A render(String key, A out, PlaceholderResolver replacements) throws IOException {
+        return getTemplate(key).render(out, replacements);
+    }
+
+    /**
+     * Get the compiled template of a message. The message is only parsed the first time
+     * it is requested after the config was loaded or the placeholder prefix/suffix changed.
+     * @param key   The key of the string
+     * @return The compiled template of the message or the error message if it doesn't exist; never null!
+     */
+    public MessageTemplate getTemplate(String key) {
+        Map<String, MessageTemplate> templates = this.templates;
+        MessageTemplate template = templates.get(key);
+        if (template == null) {
+            template = MessageTemplate.compile(get(key), placeholderPrefix, placeholderSuffix);
+            if (isCacheable(key)) {
+                templates.put(key, template);
+            }
         }
-        return replace(get(key), replacementArray);
+        return template;
     }
 
     /**
-     * Replace placeholders in a string
-     * @param string        The string to replace in
+     * Check whether or not the templates and lines of a key may be cached. Keys might come from user input so only
+     * keys which exist or are {@link #getFallbackOrMissing(String) remembered as missing} are cached.
+     * @param key   The key of the string, requested before
+     * @return Whether or not the key exists in this config or its fallbacks or is remembered as missing
+     */
+    private boolean isCacheable(String key) {
+        return contains(key, true) || missingMessages.containsKey(key) || getFallback(key) != null;
+    }
+
+    /**
+     * Get the compiled template of a message by the handle of its key.
+     * After the first request this is a single array access.
+     * @param key   The handle of the key
+     * @return The compiled template of the message or the error message if it doesn't exist; never null!
+     */
+    public MessageTemplate getTemplate(MessageKey key) {
+        MessageTemplate[] keyedTemplates = this.keyedTemplates.get();
+        int ordinal = key.getOrdinal();
+        if (ordinal < keyedTemplates.length) {
+            MessageTemplate template = keyedTemplates[ordinal];
+            if (template != null) {
+                return template;
+            }
+        }
+        MessageTemplate template = getTemplate(key.getKey());
+        if (ordinal >= keyedTemplates.length) {
+            MessageTemplate[] grown = Arrays.copyOf(keyedTemplates, Math.max(MessageKey.count(), keyedTemplates.length * 2));
+            if (!this.keyedTemplates.compareAndSet(keyedTemplates, grown)) {
+                // Cleared or grown concurrently, the template will be stored on the next request
+                return template;
+            }
+            keyedTemplates = grown;
+        }
+        keyedTemplates[ordinal] = template;
+        return template;
+    }
+
+    /**
+     * Get a string from the config by the handle of its key
+     * @param key           The handle of the key
      * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
-     * @return The string with all placeholders replaced (using the configured placeholder prefix and suffix)
+     * @return The message with the placeholders replaced
+     */
+    public String get(MessageKey key, String... replacements) {
+        return getTemplate(key).render(replacements);
+    }
+
+    /**
+     * Get a string from the config by the handle of its key
+     * @param key           The handle of the key
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @return The message with the placeholders replaced
      */
-    private String replace(String string, String... replacements) {
-        for (int i = 0; i + 1 < replacements.length; i+=2) {
-            if (replacements[i] == null) {
-                continue;
+    public String get(MessageKey key, PlaceholderResolver replacements) {
+        return getTemplate(key).render(replacements);
+    }
+
+    /**
+     * Append a message from the config directly to a string builder without creating intermediate strings
+     * @param key           The handle of the key
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(MessageKey key, StringBuilder out, String... replacements) {
+        return getTemplate(key).render(out, replacements);
+    }
+
+    /**
+     * Append a message from the config directly to a string builder without creating intermediate strings
+     * @param key           The handle of the key
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(MessageKey key, StringBuilder out, PlaceholderResolver replacements) {
+        return getTemplate(key).render(out, replacements);
+    }
+
+    /**
+     * Get the lines of a message, e.g. of a list in the config. The message is only split the first time
+     * it is requested after the config was loaded.
+     * @param key   The key of the string
+     * @return An unmodifiable list of the lines of the message or the error message if it doesn't exist
+     */
+    public List<String> getLines(String key) {
+        return getCachedLines(key).lines;
+    }
+
+    /**
+     * Get the lines of a message with the placeholders replaced. Every line is rendered on its own
+     * so the message doesn't need to be joined and split again.
+     * @param key           The key of the string
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return A list of the lines of the message with the placeholders replaced
+     */
+    public List<String> getLines(String key, String... replacements) {
+        Lines lines = getCachedLines(key);
+        if (!lines.hasPlaceholders) {
+            return lines.lines;
+        }
+        String[] rendered = new String[lines.templates.length];
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = lines.templates[i].render(replacements);
+        }
+        return Collections.unmodifiableList(Arrays.asList(rendered));
+    }
+
+    /**
+     * Get the lines of a message with the placeholders replaced. Every line is rendered on its own
+     * so the message doesn't need to be joined and split again.
+     * @param key           The key of the string
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}.
+     *                      Only placeholders which are used in the message are resolved.
+     * @return A list of the lines of the message with the placeholders replaced
+     */
+    public List<String> getLines(String key, PlaceholderResolver replacements) {
+        Lines lines = getCachedLines(key);
+        if (!lines.hasPlaceholders) {
+            return lines.lines;
+        }
+        String[] rendered = new String[lines.templates.length];
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = lines.templates[i].render(replacements);
+        }
+        return Collections.unmodifiableList(Arrays.asList(rendered));
+    }
+
+    private Lines getCachedLines(String key) {
+        Map<String, Lines> lines = this.lines;
+        Lines cached = lines.get(key);
+        if (cached == null) {
+            cached = new Lines(getTemplate(key), placeholderPrefix, placeholderSuffix);
+            if (isCacheable(key)) {
+                lines.put(key, cached);
             }
-            String placeholder = placeholderPrefix + replacements[i] + placeholderSuffix;
-            Pattern pattern = PATTERN_CACHE.get(placeholder);
-            if (pattern == null) {
-                PATTERN_CACHE.put(placeholder, pattern = Pattern.compile(placeholder, Pattern.LITERAL));
+        }
+        return cached;
+    }
+
+    /**
+     * Clear all cached templates and missing keys of this config and of the configs which fall back to it.
+     * Needs to be called when the raw config was modified directly.
+     */
+    public void clearCache() {
+        resetCaches();
+        // Their cached messages might have come from this config
+        for (LanguageConfig<?> dependent : dependents) {
+            dependent.resetCaches();
+        }
+    }
+
+    private void resetCaches() {
+        templates = new ConcurrentHashMap<>();
+        keyedTemplates.set(NO_TEMPLATES);
+        missingMessages = new ConcurrentHashMap<>();
+        lines = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Reset the caches of messages which were taken from the fallbacks. Templates and lines of this config's
+     * own messages don't depend on the fallbacks so they are kept, e.g. the ones loaded from a catalog.
+     */
+    private void resetFallbackCaches() {
+        MessageTable messages = this.messages;
+        Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+        for (Map.Entry<String, MessageTemplate> entry : this.templates.entrySet()) {
+            if (messages.get(entry.getKey()) != null) {
+                templates.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Map<String, Lines> lines = new ConcurrentHashMap<>();
+        for (Map.Entry<String, Lines> entry : this.lines.entrySet()) {
+            if (messages.get(entry.getKey()) != null) {
+                lines.put(entry.getKey(), entry.getValue());
+            }
+        }
+        this.templates = templates;
+        keyedTemplates.set(NO_TEMPLATES);
+        missingMessages = new ConcurrentHashMap<>();
+        this.lines = lines;
+    }
+
+    /**
+     * Get the templates which are currently cached in this config
+     * @return A snapshot of the cached templates by their key
+     */
+    Map<String, MessageTemplate> getCachedTemplates() {
+        return new HashMap<>(templates);
+    }
+
+    /**
+     * Reuse templates which were compiled for the same messages before, e.g. by the config that this one replaced,
+     * so that only the templates of changed messages need to be compiled again
+     * @param templates The templates by their key
+     */
+    void reuseTemplates(Map<String, MessageTemplate> templates) {
+        Map<String, MessageTemplate> current = this.templates;
+        for (Map.Entry<String, MessageTemplate> entry : templates.entrySet()) {
+            if (entry.getValue().isCompiledWith(placeholderPrefix, placeholderSuffix)) {
+                current.putIfAbsent(entry.getKey(), entry.getValue());
             }
-            string = pattern.matcher(string).replaceAll(Matcher.quoteReplacement(replacements[i+1] != null ? replacements[i+1] : "null"));
         }
-        return string;
     }
 
     /**
@@ -152,8 +826,10 @@ public abstract class LanguageConfig<C> {
     public void setDefaults(LanguageConfig<? extends C> defaults) {
         if (defaults == null) {
             defaultConfig = null;
+            setDefaultMessages(Collections.emptyMap());
         } else {
             defaultConfig = defaults.getRawConfig();
+            setDefaultMessages(defaults.getMessages().asMap());
         }
     }
 
@@ -162,7 +838,10 @@ public abstract class LanguageConfig<C> {
      * @param placeholderPrefix The placeholder prefix
      */
     void setPlaceholderPrefix(String placeholderPrefix) {
-        this.placeholderPrefix = placeholderPrefix;
+        if (!placeholderPrefix.equals(this.placeholderPrefix)) {
+            this.placeholderPrefix = placeholderPrefix;
+            resetCaches();
+        }
     }
 
     /**
@@ -170,6 +849,32 @@ public abstract class LanguageConfig<C> {
      * @param placeholderSuffix The placeholder suffix
      */
     void setPlaceholderSuffix(String placeholderSuffix) {
-        this.placeholderSuffix = placeholderSuffix;
+        if (!placeholderSuffix.equals(this.placeholderSuffix)) {
+            this.placeholderSuffix = placeholderSuffix;
+            resetCaches();
+        }
+    }
+
+    /**
+     * The lines of a message and their compiled templates
+     */
+    private static final class Lines {
+        private final List<String> lines;
+        private final MessageTemplate[] templates;
+        private final boolean hasPlaceholders;
+
+        private Lines(MessageTemplate template, String prefix, String suffix) {
+            String[] lines = template.getSource().split("\n", -1);
+            this.lines = Collections.unmodifiableList(Arrays.asList(lines));
+            this.hasPlaceholders = template.hasPlaceholders();
+            if (lines.length == 1) {
+                this.templates = new MessageTemplate[]{template};
+            } else {
+                this.templates = new MessageTemplate[lines.length];
+                for (int i = 0; i < lines.length; i++) {
+                    this.templates[i] = MessageTemplate.compile(lines[i], prefix, suffix);
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,86 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generate a class with a {@link MessageKey} constant and a typed getter for every message in the language files
+ * of the default locale. Requires the <code>lang-processor</code> annotation processor to be run while compiling.
+ * <p>
+ * The generated class is placed in the package of the annotated type. Referencing a key which was removed
+ * from the language file or passing a placeholder which the message doesn't have fails the build, the processor
+ * also reports translations which use placeholders that the default message doesn't have.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface LanguageKeys {
+
+    /**
+     * The simple name of the class to generate
+     * @return The class name
+     */
+    String value() default "Messages";
+
+    /**
+     * The folder that contains the language files inside of the resources
+     * @return The resource folder
+     */
+    String resourceFolder() default "languages";
+
+    /**
+     * The prefix of the language files
+     * @return The file prefix
+     */
+    String filePrefix() default "lang.";
+
+    /**
+     * The suffix of the language files, files ending with <code>.properties</code> are read as properties, everything else as YAML
+     * @return The file suffix
+     */
+    String fileSuffix() default ".yml";
+
+    /**
+     * The locale whose file defines the available keys and placeholders
+     * @return The default locale
+     */
+    String defaultLocale() default "en";
+
+    /**
+     * The prefix of placeholders
+     * @return The placeholder prefix
+     */
+    String placeholderPrefix() default "%";
+
+    /**
+     * The suffix of placeholders
+     * @return The placeholder suffix
+     */
+    String placeholderSuffix() default "%";
+
+    /**
+     * Whether or not translations which use placeholders that the default message doesn't have should fail the build.
+     * If false they are only reported as warnings. Keys missing in translations are always only warnings.
+     * @return Whether or not to fail on placeholder mismatches
+     */
+    boolean strict() default true;
+}
@@ -18,11 +18,17 @@ package de.themoep.utils.lang;
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitOption;
@@ -31,16 +37,35 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -48,23 +73,64 @@ import java.util.zip.ZipError;
 
 /**
  * The core language manager
+ * <p>
+ * Reading (e.g. {@link #getConfig(String)} and the {@link LanguageConfig#get(String, String...)} methods
+ * of the returned configs) is thread-safe and lock-free: the configs are stored in an immutable map
+ * which gets replaced as a whole whenever a config is added, so readers always see a complete snapshot.
+ * Modifications are synchronized with each other.
  * @param <S> The command sender type
  * @param <C> The configuration type
  */
 public abstract class LanguageManagerCore<S, C> {
+    /** The maximum amount of cached locale resolutions, locales are sent by clients so there might be arbitrarily many */
+    private static final int MAX_RESOLVED_LOCALES = 1024;
+    /**
+     * The name of the file in the resource folder which lists the names of all bundled language files, one per line.
+     * If it exists the jar doesn't need to be opened to find them. It is generated by the lang-processor.
+     */
+    public static final String INDEX_FILE = "index.txt";
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    /** The idle time of lazily loaded configs in seconds if lazy loading was enabled with a system property, otherwise -1 */
+    private static final long LAZY_IDLE_SECONDS = Long.getLong("de.themoep.utils.lang.lazy", -1);
+
     private final String resourceFolder;
     private final File folder;
     protected final String filePrefix;
     protected final String fileSuffix;
     protected final boolean saveFiles;
-    private String defaultLocale;
-    private LanguageConfig<C> defaultConfig = null;
+    private volatile String defaultLocale;
+    private volatile LanguageConfig<C> defaultConfig = null;
 
-    private LanguageProvider<S> provider;
+    private volatile LanguageProvider<S> provider;
 
-    private Map<String, LanguageConfig<C>> languages = new LinkedHashMap<>();
-    private String placeholderPrefix = "%";
-    private String placeholderSuffix = "%";
+    /** Immutable snapshot of all configs, only replaced while holding the lock on this manager */
+    private volatile Map<String, LanguageConfig<C>> languages = Collections.emptyMap();
+    private volatile String placeholderPrefix = "%";
+    private volatile String placeholderSuffix = "%";
+    private volatile RenderCache renderCache = null;
+    /** Cache of requested locale strings to their resolved config, replaced instead of cleared (see {@link #clearResolvedLocales()}) */
+    private volatile Map<String, LanguageConfig<C>> resolvedLocales = new ConcurrentHashMap<>();
+    /** Cache of the configs of senders for which {@link #isConfigCached(Object)} returns true */
+    private volatile Map<S, LanguageConfig<C>> senderConfigs = new ConcurrentHashMap<>();
+    private volatile Executor loadExecutor = null;
+
+    /** How long lazily loaded configs may be unused before they are unloaded in nanoseconds, 0 to never unload them, -1 if lazy loading is disabled */
+    private volatile long idleTime = LAZY_IDLE_SECONDS >= 0 ? TimeUnit.SECONDS.toNanos(LAZY_IDLE_SECONDS) : -1;
+    /** Lower case locales of language files which were found but aren't loaded to their locale, only replaced while holding the lock */
+    private volatile Map<String, String> stubs = Collections.emptyMap();
+    /** The plugin class, logger and creator of configs passed to the last {@link #loadConfigs(Class, LangLogger, Function)} call */
+    private Class<?> pluginClass = null;
+    private LangLogger logger = null;
+    private Function<String, LanguageConfig<C>> configCreator = null;
+    /** Lower case locales of configs which were loaded from a stub to when they were last seen in use */
+    private final Map<String, Long> lastUsed = new HashMap<>();
+    private ScheduledFuture<?> evictionTask = null;
+    /** Incremented whenever configs are replaced without clearing the caches completely */
+    private volatile int generation = 0;
+    private FileWatcher watcher = null;
+    private final List<MessageChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    /** The names of files in the folder to the time they were last modified and their size when they were last loaded or written by a config */
+    private final Map<String, String> fileStates = new ConcurrentHashMap<>();
 
     protected LanguageManagerCore(String defaultLocale, String resourceFolder, File folder, LanguageProvider<S> provider, String filePrefix, String fileSuffix, boolean saveFiles, LanguageConfig<C>... configs) {
         this.defaultLocale = defaultLocale;
@@ -86,54 +152,192 @@ public abstract class LanguageManagerCore<S, C> {
     public abstract void loadConfigs();
 
     protected void loadConfigs(Class<?> pluginClass, LangLogger logger, Function<String, LanguageConfig<C>> configCreator) {
-        Set<String> loaded = new HashSet<>(languages.keySet());
+        Set<String> loaded;
+        List<String> locales;
+        List<String> created;
+        boolean lazy;
+        synchronized (this) {
+            this.pluginClass = pluginClass;
+            this.logger = logger;
+            this.configCreator = configCreator;
+            loaded = new HashSet<>(languages.keySet());
+            loaded.addAll(stubs.keySet());
+            locales = discoverLocales(pluginClass, logger, false);
+            lazy = idleTime >= 0;
+            created = lazy ? getResidentLocales(locales) : locales;
+        }
+        // Parsed outside of the lock so that the load executor never has to wait for it
+        List<LanguageConfig<C>> configs = createConfigs(created, logger, configCreator);
+
+        Map<String, MessageChanges> changes;
+        synchronized (this) {
+            if (lazy) {
+                changes = addStubs(locales, created, configs);
+            } else {
+                changes = replaceConfigs(configs, null);
+            }
+
+            Set<String> found = new LinkedHashSet<>(languages.keySet());
+            found.addAll(stubs.keySet());
+            if (loaded.size() < found.size()) {
+                List<String> newLocales = found.stream().filter(s -> !loaded.contains(s)).collect(Collectors.toList());
+                logger.log(Level.INFO, "Found locale"
+                        + (newLocales.size() == 1
+                                ? " " + newLocales.get(0)
+                                : "s " + String.join(", ", newLocales)));
+            }
+        }
+        // Outside of the lock so that listeners can't block other modifications
+        notifyListeners(changes);
+    }
+
+    /**
+     * Find the locales of the language files inside the jar and in the folder
+     * @param includeLoaded Whether or not to include locales which only exist in the folder and are already loaded
+     * @return The locales, the ones inside the jar first
+     */
+    private List<String> discoverLocales(Class<?> pluginClass, LangLogger logger, boolean includeLoaded) {
+        List<String> locales = new ArrayList<>();
         try {
-            URL url = pluginClass.getResource("/" + resourceFolder);
-            if (url != null) {
-                URI uri = url.toURI();
-                try (FileSystem fileSystem = (uri.getScheme().equals("jar") ? FileSystems.newFileSystem(uri, Collections.emptyMap()) : null)) {
-                    loadInTree(Paths.get(uri), logger, configCreator);
-                }
-                if (getConfigs().isEmpty()) {
-                    logger.log(Level.WARNING, "No language files found in folder '/" + resourceFolder + "' inside the jar!");
-                }
+            List<String> indexed = readIndex(pluginClass);
+            if (indexed != null) {
+                locales.addAll(indexed);
             } else {
-                logger.log(Level.WARNING, "Could not find folder '/" + resourceFolder + "' in jar!");
+                // No index, list the files of the folder instead
+                URL url = pluginClass.getResource("/" + resourceFolder);
+                if (url != null) {
+                    URI uri = url.toURI();
+                    try (FileSystem fileSystem = (uri.getScheme().equals("jar") ? FileSystems.newFileSystem(uri, Collections.emptyMap()) : null)) {
+                        locales.addAll(findLocales(Paths.get(uri), logger));
+                    }
+                } else {
+                    logger.log(Level.WARNING, "Could not find folder '/" + resourceFolder + "' in jar!");
+                }
+            }
+            if (locales.isEmpty() && languages.isEmpty()) {
+                logger.log(Level.WARNING, "No language files found in folder '/" + resourceFolder + "' inside the jar!");
             }
         } catch (URISyntaxException | IOException | ZipError e) {
             logger.log(Level.WARNING, "Error while trying to automatically load languages from the jar!", e);
         }
-        if (loaded.size() < languages.size()) {
-            List<String> newLocales = languages.keySet().stream().filter(s -> !loaded.contains(s)).collect(Collectors.toList());
-            logger.log(Level.INFO, "Found locale"
-                    + (newLocales.size() == 1
-                            ? " " + newLocales.get(0)
-                            : "s " + String.join(", ", newLocales)));
-        }
 
         // Load all files in plugin data folder that aren't already loaded
-        if (saveFiles) {
-            loadInTree(folder.toPath(), logger, locale -> {
-                if (!languages.containsKey(locale.toLowerCase(Locale.ENGLISH))) {
-                    return configCreator.apply(locale);
+        if (saveFiles && folder.isDirectory()) {
+            Set<String> bundled = locales.stream().map(l -> l.toLowerCase(Locale.ENGLISH)).collect(Collectors.toSet());
+            for (String locale : findLocales(folder.toPath(), logger)) {
+                String lowerCase = locale.toLowerCase(Locale.ENGLISH);
+                if (!bundled.contains(lowerCase) && (includeLoaded || !languages.containsKey(lowerCase))) {
+                    locales.add(locale);
+                }
+            }
+        }
+        return locales;
+    }
+
+    /**
+     * Load all configs again in the background. Unlike {@link #loadConfigs()} this also reloads configs of files
+     * which only exist in the folder. The new configs are all created first and then replace the old ones at once
+     * so that the messages are never partially reloaded. When {@link #isLazyLoading() loading lazily} only the
+     * configs which are currently loaded are created again, all others stay or become stubs.
+     * @param executor  The executor to find and load the files on, the files are parsed in parallel using the
+     *                  {@link #setLoadExecutor(Executor) load executor}
+     * @return A future which completes with the changes of every reloaded locale once the new configs are used,
+     *          by their lower case locale in the order they were loaded in
+     * @throws IllegalStateException If the configs were never loaded
+     */
+    public CompletableFuture<Map<String, MessageChanges>> reloadAsync(Executor executor) {
+        Class<?> pluginClass;
+        LangLogger logger;
+        Function<String, LanguageConfig<C>> configCreator;
+        synchronized (this) {
+            pluginClass = this.pluginClass;
+            logger = this.logger;
+            configCreator = this.configCreator;
+        }
+        if (configCreator == null) {
+            throw new IllegalStateException("Configs were never loaded!");
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> locales = discoverLocales(pluginClass, logger, true);
+            List<String> loaded = locales;
+            if (idleTime >= 0) {
+                String defaultLocale = this.defaultLocale;
+                loaded = locales.stream()
+                        .filter(l -> languages.containsKey(l.toLowerCase(Locale.ENGLISH)) || l.equalsIgnoreCase(defaultLocale))
+                        .collect(Collectors.toList());
+            }
+            return publishReload(locales, createConfigs(loaded, logger, configCreator));
+        }, executor);
+    }
+
+    /**
+     * Replace the configs of a reload at once
+     * @param locales   All found locales
+     * @param configs   The new configs
+     * @return The changes of every reloaded locale
+     */
+    private Map<String, MessageChanges> publishReload(List<String> locales, List<LanguageConfig<C>> configs) {
+        Map<String, MessageChanges> changes;
+        synchronized (this) {
+            Map<String, String> stubs = null;
+            if (idleTime >= 0) {
+                stubs = new LinkedHashMap<>(this.stubs);
+                // Only the default locale is loaded from a stub, others were unloaded after they were picked
+                if (defaultLocale != null) {
+                    stubs.remove(defaultLocale.toLowerCase(Locale.ENGLISH));
+                }
+                for (String locale : locales) {
+                    String lowerCase = locale.toLowerCase(Locale.ENGLISH);
+                    if (!languages.containsKey(lowerCase) && !stubs.containsKey(lowerCase)) {
+                        boolean created = configs.stream().anyMatch(c -> c.getLocale().equalsIgnoreCase(locale));
+                        if (!created) {
+                            stubs.put(lowerCase, locale);
+                        }
+                    }
                 }
+            }
+            changes = replaceConfigs(configs, stubs);
+        }
+        notifyListeners(changes);
+        return changes;
+    }
+
+    /**
+     * Read the locales of the bundled language files from the {@link #INDEX_FILE index} in the resource folder
+     * @return The locales sorted by their name or <code>null</code> if there is no index
+     */
+    private List<String> readIndex(Class<?> pluginClass) throws IOException {
+        try (InputStream in = pluginClass.getResourceAsStream("/" + resourceFolder + "/" + INDEX_FILE)) {
+            if (in == null) {
                 return null;
-            });
+            }
+            List<String> locales = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String fileName = line.trim();
+                if (!fileName.startsWith("#") && fileName.startsWith(filePrefix) && fileName.endsWith(fileSuffix)) {
+                    locales.add(fileName.substring(filePrefix.length(), fileName.length() - fileSuffix.length()));
+                }
+            }
+            Collections.sort(locales);
+            return locales;
         }
     }
 
-    private void loadInTree(Path path, LangLogger logger, Function<String, LanguageConfig<C>> configCreator) {
+    /**
+     * Find the locales of all language files in a folder
+     * @return The locales sorted by their name so that configs are always added in the same order
+     */
+    private List<String> findLocales(Path path, LangLogger logger) {
+        List<String> locales = new ArrayList<>();
         try {
             Files.walkFileTree(path, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<Path>() {
                 @Override
                 public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
                     String fileName = file.getFileName().toString();
                     if (fileName.startsWith(filePrefix) && fileName.endsWith(fileSuffix)) {
-                        String locale = fileName.substring(filePrefix.length(), fileName.length() - fileSuffix.length());
-                        LanguageConfig<C> config = configCreator.apply(locale);
-                        if (config != null) {
-                            addConfig(config);
-                        }
+                        locales.add(fileName.substring(filePrefix.length(), fileName.length() - fileSuffix.length()));
                     }
                     return FileVisitResult.CONTINUE;
                 }
@@ -141,6 +345,266 @@ public abstract class LanguageManagerCore<S, C> {
         } catch (IOException e) {
             logger.log(Level.WARNING, "Failed to automatically load languages from " + path + "!", e);
         }
+        Collections.sort(locales);
+        return locales;
+    }
+
+    /**
+     * Create the configs of multiple locales using the {@link #setLoadExecutor(Executor) load executor}
+     * @return The successfully created configs in the order of the locales
+     */
+    private List<LanguageConfig<C>> createConfigs(List<String> locales, LangLogger logger, Function<String, LanguageConfig<C>> configCreator) {
+        // Waiting for tasks of the load executor while holding the lock could deadlock if they need the lock too
+        Executor executor = locales.size() > 1 && !Thread.holdsLock(this) ? getLoadExecutor() : DIRECT_EXECUTOR;
+        List<CompletableFuture<LanguageConfig<C>>> futures = new ArrayList<>();
+        for (String locale : locales) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                Path file = saveFiles ? folder.toPath().resolve(filePrefix + locale + fileSuffix) : null;
+                // The state before loading so that changes while it is loaded are still noticed
+                String state = file != null ? getFileState(file) : null;
+                LanguageConfig<C> config = configCreator.apply(locale);
+                if (file != null) {
+                    if (state == null) {
+                        // Written by the config as it didn't exist yet
+                        state = getFileState(file);
+                    }
+                    if (state != null) {
+                        fileStates.put(file.getFileName().toString(), state);
+                    }
+                }
+                return config;
+            }, executor));
+        }
+        List<LanguageConfig<C>> configs = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                LanguageConfig<C> config = futures.get(i).join();
+                if (config != null) {
+                    configs.add(config);
+                }
+            } catch (CompletionException e) {
+                logger.log(Level.WARNING, "Failed to load language " + locales.get(i) + "!", e.getCause());
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * Set the executor which is used to load multiple language files in parallel in {@link #loadConfigs()}.
+     * The configs are always added in the same order regardless of when their loading finished. Files are never
+     * parsed on it while the manager is locked, e.g. when lazy loading is disabled, they are parsed directly then.
+     * @param executor  The executor or null to use the common fork join pool if it runs in parallel
+     */
+    public void setLoadExecutor(Executor executor) {
+        this.loadExecutor = executor;
+    }
+
+    /**
+     * Get the executor which is used to load multiple language files in parallel
+     * @return The executor, the common fork join pool or one which runs tasks directly if none was set
+     */
+    public Executor getLoadExecutor() {
+        Executor executor = loadExecutor;
+        if (executor != null) {
+            return executor;
+        }
+        // The common pool starts a new thread for every task if it has no parallelism
+        return ForkJoinPool.getCommonPoolParallelism() > 1 ? ForkJoinPool.commonPool() : DIRECT_EXECUTOR;
+    }
+
+    /**
+     * Set whether or not {@link #loadConfigs()} should only load the default locale and all other locales only
+     * when they are requested for the first time. Lazily loaded configs which weren't requested for the idle time
+     * are unloaded again until they are requested the next time, the default config always stays loaded.
+     * Takes effect the next time the configs are loaded. Can also be enabled by setting the system property
+     * <code>de.themoep.utils.lang.lazy</code> to the idle time in seconds.
+     * @param lazy      Whether or not to load configs lazily
+     * @param idleTime  How long a lazily loaded config may be unused before it is unloaded, 0 to never unload it
+     * @param unit      The unit of the idle time
+     */
+    public synchronized void setLazyLoading(boolean lazy, long idleTime, TimeUnit unit) {
+        if (lazy && idleTime < 0) {
+            throw new IllegalArgumentException("Idle time cannot be negative!");
+        }
+        this.idleTime = lazy ? unit.toNanos(idleTime) : -1;
+        if (!lazy && !stubs.isEmpty()) {
+            loadStubs(new ArrayList<>(stubs.values()));
+        }
+        scheduleEviction();
+    }
+
+    /**
+     * Check whether or not configs are loaded lazily
+     * @return Whether or not configs are loaded when they are requested for the first time
+     * @see #setLazyLoading(boolean, long, TimeUnit)
+     */
+    public boolean isLazyLoading() {
+        return idleTime >= 0;
+    }
+
+    /**
+     * Get the locales which are loaded immediately when loading lazily
+     * @return The default locale or the first locale if there is no default locale and no config yet
+     */
+    private List<String> getResidentLocales(List<String> locales) {
+        List<String> resident = new ArrayList<>();
+        for (String locale : locales) {
+            String lowerCase = locale.toLowerCase(Locale.ENGLISH);
+            if (defaultLocale != null ? lowerCase.equals(defaultLocale.toLowerCase(Locale.ENGLISH)) : languages.isEmpty() && resident.isEmpty()) {
+                resident.add(locale);
+            }
+        }
+        return resident;
+    }
+
+    /**
+     * Remember the locales of language files as stubs which are only loaded when they are requested.
+     * The default locale is loaded immediately and configs of the locales which are already loaded are replaced by stubs.
+     * @param locales   All found locales
+     * @param resident  The {@link #getResidentLocales(List) locales which are loaded immediately}
+     * @param configs   The created configs of the resident locales
+     * @return The changes of the default locale
+     */
+    private synchronized Map<String, MessageChanges> addStubs(List<String> locales, List<String> resident, List<LanguageConfig<C>> configs) {
+        Map<String, String> stubs = new LinkedHashMap<>(this.stubs);
+        for (String locale : locales) {
+            String lowerCase = locale.toLowerCase(Locale.ENGLISH);
+            if (resident.contains(locale)) {
+                stubs.remove(lowerCase);
+            } else {
+                lastUsed.remove(lowerCase);
+                stubs.put(lowerCase, locale);
+            }
+        }
+        Map<String, MessageChanges> changes = replaceConfigs(configs, stubs);
+        scheduleEviction();
+        return changes;
+    }
+
+    /**
+     * Load the config of a stub. The files are parsed outside of the lock so that requests of other locales
+     * aren't blocked while it is loading.
+     * @param locale    The lower case locale of the stub
+     * @return The config or null if there is no stub or config for the locale or it failed to load
+     */
+    private LanguageConfig<C> loadStub(String locale) {
+        List<String> locales = new ArrayList<>();
+        LangLogger logger;
+        Function<String, LanguageConfig<C>> configCreator;
+        synchronized (this) {
+            LanguageConfig<C> config = languages.get(locale);
+            if (config != null || !stubs.containsKey(locale)) {
+                return config;
+            }
+            locales.add(stubs.get(locale));
+            // Also load the locales that it falls back to
+            int separator = locale.indexOf('_');
+            String language = separator > 0 ? locale.substring(0, separator) : locale;
+            for (String fallback : new String[] {language + "_" + language, language}) {
+                if (!fallback.equals(locale) && stubs.containsKey(fallback)) {
+                    locales.add(stubs.get(fallback));
+                }
+            }
+            logger = this.logger;
+            configCreator = this.configCreator;
+        }
+        List<LanguageConfig<C>> configs = createConfigs(locales, logger, configCreator);
+        synchronized (this) {
+            // Configs were loaded again in the meantime, the stubs might point to different files now
+            if (configCreator == this.configCreator) {
+                publishStubs(locales, configs);
+            }
+            return languages.get(locale);
+        }
+    }
+
+    /**
+     * Load the configs of multiple stubs at once
+     * @param locales   The locales of the stubs
+     */
+    private synchronized void loadStubs(List<String> locales) {
+        publishStubs(locales, createConfigs(locales, logger, configCreator));
+    }
+
+    /**
+     * Replace stubs with their loaded configs
+     * @param locales   The locales of the stubs
+     * @param configs   The configs which were created for them
+     */
+    private synchronized void publishStubs(List<String> locales, List<LanguageConfig<C>> configs) {
+        Map<String, String> stubs = new LinkedHashMap<>(this.stubs);
+        for (String locale : locales) {
+            stubs.remove(locale.toLowerCase(Locale.ENGLISH));
+        }
+        List<LanguageConfig<C>> loaded = new ArrayList<>();
+        long now = System.nanoTime();
+        for (LanguageConfig<C> config : configs) {
+            String lowerCase = config.getLocale().toLowerCase(Locale.ENGLISH);
+            // Otherwise it was already loaded by another request while this one was created
+            if (this.stubs.containsKey(lowerCase)) {
+                loaded.add(config);
+                lastUsed.put(lowerCase, now);
+            }
+        }
+        // Stubs which failed to load are removed too so that they aren't tried again on every request
+        replaceConfigs(loaded, stubs);
+    }
+
+    /**
+     * Unload all lazily loaded configs which weren't requested for longer than the idle time
+     * so that they are only loaded again when they are requested the next time.
+     * This is done automatically in the background if lazy loading is enabled with an idle time.
+     * @return The amount of unloaded configs
+     * @see #setLazyLoading(boolean, long, TimeUnit)
+     */
+    public synchronized int evictIdleConfigs() {
+        if (idleTime <= 0 || lastUsed.isEmpty()) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        Set<LanguageConfig<C>> idle = new HashSet<>();
+        for (Map.Entry<String, Long> entry : lastUsed.entrySet()) {
+            LanguageConfig<C> config = languages.get(entry.getKey());
+            if (config == null || config == defaultConfig) {
+                continue;
+            }
+            if (config.resetUsed()) {
+                entry.setValue(now);
+            } else if (now - entry.getValue() >= idleTime) {
+                idle.add(config);
+            }
+        }
+        // Keep configs that other configs which are still in use fall back to
+        for (LanguageConfig<C> config : languages.values()) {
+            if (!idle.contains(config)) {
+                idle.removeAll(config.getFallbacks());
+            }
+        }
+        if (idle.isEmpty()) {
+            return 0;
+        }
+        Map<String, String> stubs = new LinkedHashMap<>(this.stubs);
+        for (LanguageConfig<C> config : idle) {
+            String lowerCase = config.getLocale().toLowerCase(Locale.ENGLISH);
+            lastUsed.remove(lowerCase);
+            stubs.put(lowerCase, config.getLocale());
+        }
+        replaceConfigs(Collections.emptyList(), stubs);
+        return idle.size();
+    }
+
+    /**
+     * Start or stop the background task which unloads idle configs depending on the idle time
+     */
+    private void scheduleEviction() {
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+            evictionTask = null;
+        }
+        if (idleTime > 0 && configCreator != null) {
+            long period = Math.max(idleTime / 2, TimeUnit.SECONDS.toNanos(1));
+            evictionTask = Scheduler.schedule(this, LanguageManagerCore::evictIdleConfigs, period);
+        }
     }
 
     /**
@@ -148,10 +612,334 @@ public abstract class LanguageManagerCore<S, C> {
      * @param config    The language config that holds all messages for the specified locale
      * @return The previous language config if it existed or <code>null</code> if not
      */
-    public LanguageConfig<C> addConfig(LanguageConfig<C> config) {
+    public synchronized LanguageConfig<C> addConfig(LanguageConfig<C> config) {
         config.setPlaceholderPrefix(placeholderPrefix);
         config.setPlaceholderSuffix(placeholderSuffix);
-        return languages.put(config.getLocale().toLowerCase(Locale.ENGLISH), config);
+        String lowerCase = config.getLocale().toLowerCase(Locale.ENGLISH);
+        if (stubs.containsKey(lowerCase)) {
+            Map<String, String> stubs = new LinkedHashMap<>(this.stubs);
+            stubs.remove(lowerCase);
+            this.stubs = Collections.unmodifiableMap(stubs);
+        }
+        // Configs which were added manually are never unloaded
+        lastUsed.remove(lowerCase);
+        Map<String, LanguageConfig<C>> languages = new LinkedHashMap<>(this.languages);
+        LanguageConfig<C> previous = languages.put(lowerCase, config);
+        setLanguages(languages);
+        return previous;
+    }
+
+    /**
+     * Add multiple configs at once so that the caches only need to be updated once
+     * @param configs   The configs to add in the order they should be added
+     */
+    private synchronized void addConfigs(List<LanguageConfig<C>> configs) {
+        if (configs.isEmpty()) {
+            return;
+        }
+        Map<String, LanguageConfig<C>> languages = new LinkedHashMap<>(this.languages);
+        for (LanguageConfig<C> config : configs) {
+            config.setPlaceholderPrefix(placeholderPrefix);
+            config.setPlaceholderSuffix(placeholderSuffix);
+            languages.put(config.getLocale().toLowerCase(Locale.ENGLISH), config);
+        }
+        setLanguages(languages);
+    }
+
+    private void setLanguages(Map<String, LanguageConfig<C>> languages) {
+        this.languages = Collections.unmodifiableMap(languages);
+        updateDefaultConfig();
+        updateFallbacks();
+        clearResolvedLocales();
+        clearSenderConfigs();
+        clearRenderCache();
+    }
+
+    /**
+     * Add, replace or unload multiple configs at once and compare their messages with the ones of the configs they replace.
+     * Unlike when {@link #addConfigs(List) adding configs} only the cached resolutions, templates and rendered messages
+     * of the replaced and unloaded locales are removed, and only the ones of keys which actually changed in them or in
+     * the locales they fall back to. All other caches stay intact unless locales were added.
+     * @param configs   The new configs, configs of locales which are stubs and stay stubs are ignored as they
+     *                  were unloaded after they were picked to be reloaded
+     * @param stubs     The new stubs or null if they didn't change, loaded configs of locales in them are unloaded
+     * @return The changes of every added or replaced config by its lower case locale
+     */
+    private synchronized Map<String, MessageChanges> replaceConfigs(List<LanguageConfig<C>> configs, Map<String, String> stubs) {
+        Map<String, LanguageConfig<C>> languages = new LinkedHashMap<>(this.languages);
+        Map<String, String> newStubs = stubs != null ? stubs : this.stubs;
+        Set<String> known = new HashSet<>(languages.keySet());
+        known.addAll(this.stubs.keySet());
+        Map<String, MessageChanges> changes = new LinkedHashMap<>();
+        // The replaced configs to their replacement and the changes between them
+        Map<LanguageConfig<?>, LanguageConfig<?>> replacements = new IdentityHashMap<>();
+        Map<LanguageConfig<?>, MessageChanges> replacedChanges = new IdentityHashMap<>();
+        Set<LanguageConfig<?>> unloaded = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, LanguageConfig<C>> entry : this.languages.entrySet()) {
+            if (newStubs.containsKey(entry.getKey())) {
+                languages.remove(entry.getKey());
+                unloaded.add(entry.getValue());
+            }
+        }
+        for (LanguageConfig<C> config : configs) {
+            String lowerCase = config.getLocale().toLowerCase(Locale.ENGLISH);
+            if (this.stubs.containsKey(lowerCase) && newStubs.containsKey(lowerCase)) {
+                // Unloaded while it was created, it would never be unloaded again if it was added now
+                continue;
+            }
+            config.setPlaceholderPrefix(placeholderPrefix);
+            config.setPlaceholderSuffix(placeholderSuffix);
+            LanguageConfig<C> previous = languages.put(lowerCase, config);
+            MessageChanges change = MessageChanges.compare(config.getLocale(), previous != null ? previous.getMessages() : MessageTable.EMPTY, config.getMessages());
+            changes.put(lowerCase, change);
+            if (previous != null) {
+                replacements.put(previous, config);
+                replacedChanges.put(previous, change);
+            }
+        }
+        Set<String> found = new HashSet<>(languages.keySet());
+        found.addAll(newStubs.keySet());
+        boolean added = !known.containsAll(found);
+
+        // Remember the caches of the previous configs as they get cleared when their fallbacks change
+        Map<LanguageConfig<?>, Map<String, MessageTemplate>> previousTemplates = new IdentityHashMap<>();
+        Map<LanguageConfig<?>, List<LanguageConfig<?>>> previousFallbacks = new IdentityHashMap<>();
+        for (LanguageConfig<C> config : this.languages.values()) {
+            previousTemplates.put(config, config.getCachedTemplates());
+            previousFallbacks.put(config, config.getFallbacks());
+        }
+
+        this.languages = Collections.unmodifiableMap(languages);
+        if (stubs != null) {
+            this.stubs = Collections.unmodifiableMap(stubs);
+        }
+        updateDefaultConfig();
+        updateFallbacks();
+
+        List<MessageTemplate> outdated = new ArrayList<>();
+        for (Map.Entry<LanguageConfig<?>, Map<String, MessageTemplate>> entry : previousTemplates.entrySet()) {
+            LanguageConfig<?> previous = entry.getKey();
+            LanguageConfig<?> config = replacements.getOrDefault(previous, previous);
+            if (!languages.containsValue(config)) {
+                outdated.addAll(entry.getValue().values());
+                continue;
+            }
+            // The fallbacks are still the same if the replaced ones are swapped for their replacements
+            List<LanguageConfig<?>> fallbacks = new ArrayList<>();
+            Set<String> affected = new HashSet<>();
+            if (replacedChanges.containsKey(previous)) {
+                affected.addAll(replacedChanges.get(previous).getKeys());
+            }
+            for (LanguageConfig<?> fallback : previousFallbacks.get(previous)) {
+                fallbacks.add(replacements.getOrDefault(fallback, fallback));
+                if (replacedChanges.containsKey(fallback)) {
+                    affected.addAll(replacedChanges.get(fallback).getKeys());
+                }
+            }
+            Map<String, MessageTemplate> templates = entry.getValue();
+            if (!fallbacks.equals(config.getFallbacks())) {
+                // Falls back to different locales now, e.g. because one was added, only its own messages stay the same
+                MessageTable messages = config.getMessages();
+                for (String key : templates.keySet()) {
+                    if (messages.get(key) == null) {
+                        affected.add(key);
+                    }
+                }
+            }
+            if (config == previous && affected.isEmpty() && config.getFallbacks().equals(previousFallbacks.get(previous))) {
+                // Neither it nor its fallbacks changed so its caches weren't cleared
+                continue;
+            }
+            Map<String, MessageTemplate> reused = new HashMap<>(templates);
+            for (String key : affected) {
+                MessageTemplate template = reused.remove(key);
+                if (template != null) {
+                    outdated.add(template);
+                }
+            }
+            config.reuseTemplates(reused);
+        }
+
+        if (added) {
+            // New locales might change how other locales resolve
+            clearResolvedLocales();
+            clearSenderConfigs();
+        } else {
+            // Loading a stub or unloading a config only changes the resolution of the locales that resolved to it
+            generation++;
+            resolvedLocales.values().removeIf(c -> replacements.containsKey(c) || unloaded.contains(c));
+            senderConfigs.values().removeIf(c -> replacements.containsKey(c) || unloaded.contains(c));
+        }
+        RenderCache renderCache = this.renderCache;
+        if (renderCache != null) {
+            renderCache.remove(outdated);
+        }
+        return changes;
+    }
+
+    /**
+     * Notify the listeners about changed messages
+     * @param changes   The changes of every locale
+     */
+    private void notifyListeners(Map<String, MessageChanges> changes) {
+        for (MessageChanges change : changes.values()) {
+            if (change.isEmpty()) {
+                continue;
+            }
+            for (MessageChangeListener listener : changeListeners) {
+                try {
+                    listener.onChange(change);
+                } catch (RuntimeException e) {
+                    if (logger != null) {
+                        logger.log(Level.WARNING, "Error while notifying a listener about changed messages of " + change.getLocale() + "!", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a listener which is notified when messages change because configs were reloaded by {@link #loadConfigs()},
+     * {@link #reloadAsync(Executor)} or because their {@link #setFileWatching(boolean) files changed}.
+     * This can be used to only update caches of the changed messages, e.g. of rendered scoreboards or GUIs.
+     * When {@link #isLazyLoading() loading lazily} only configs which are loaded are compared, so loading a stub or
+     * unloading a config to one is not reported and neither are changes of files whose locale is a stub.
+     * @param listener  The listener
+     */
+    public void addChangeListener(MessageChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener which was added with {@link #addChangeListener(MessageChangeListener)}
+     * @param listener  The listener
+     * @return Whether or not the listener was added before
+     */
+    public boolean removeChangeListener(MessageChangeListener listener) {
+        return changeListeners.remove(listener);
+    }
+
+    /**
+     * Set whether or not the language files in the {@link #getFolder() folder} should be watched for changes.
+     * Changed files are loaded again in the background shortly after the last change and their new configs
+     * replace the old ones at once, files of new locales are added. Deleted files are ignored until the configs
+     * are loaded the next time.
+     * @param watch Whether or not to watch the files
+     * @return Whether or not the files are watched now
+     */
+    public synchronized boolean setFileWatching(boolean watch) {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+        if (!watch) {
+            return false;
+        }
+        if (!saveFiles || !folder.isDirectory()) {
+            if (logger != null) {
+                logger.log(Level.WARNING, "Cannot watch language files as the folder " + folder + " doesn't exist!");
+            }
+            return false;
+        }
+        try {
+            fileStates.clear();
+            for (File file : folder.listFiles()) {
+                String state = getFileState(file.toPath());
+                if (state != null) {
+                    fileStates.put(file.getName(), state);
+                }
+            }
+            watcher = new FileWatcher(this, folder.toPath());
+            return true;
+        } catch (IOException e) {
+            if (logger != null) {
+                logger.log(Level.WARNING, "Could not watch language files in " + folder + "!", e);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Check whether or not the language files in the folder are watched for changes
+     * @return Whether or not the files are watched
+     * @see #setFileWatching(boolean)
+     */
+    public synchronized boolean isFileWatching() {
+        return watcher != null;
+    }
+
+    /**
+     * Load the configs of changed language files again, called by the {@link FileWatcher} in the background
+     * @param fileNames The names of the changed files
+     */
+    private void reloadFiles(Collection<String> fileNames) {
+        LangLogger logger;
+        Function<String, LanguageConfig<C>> configCreator;
+        synchronized (this) {
+            logger = this.logger;
+            configCreator = this.configCreator;
+        }
+        if (configCreator == null) {
+            return;
+        }
+        List<String> changed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (String fileName : fileNames) {
+            if (!fileName.startsWith(filePrefix) || !fileName.endsWith(fileSuffix)) {
+                continue;
+            }
+            String state = getFileState(folder.toPath().resolve(fileName));
+            if (state == null || state.equals(fileStates.put(fileName, state))) {
+                // Deleted or not actually modified, e.g. only touched or written by a config itself
+                continue;
+            }
+            String locale = fileName.substring(filePrefix.length(), fileName.length() - fileSuffix.length());
+            String lowerCase = locale.toLowerCase(Locale.ENGLISH);
+            if (languages.containsKey(lowerCase)) {
+                changed.add(locale);
+            } else if (!stubs.containsKey(lowerCase)) {
+                // Stubs already read the current file when they are loaded
+                added.add(locale);
+            }
+        }
+        if (!changed.isEmpty()) {
+            // Parsed outside of the lock so that reading and other modifications aren't blocked
+            List<LanguageConfig<C>> configs = createConfigs(changed, logger, configCreator);
+            if (!configs.isEmpty()) {
+                notifyListeners(replaceConfigs(configs, null));
+                logger.log(Level.INFO, "Reloaded locale" + (configs.size() == 1 ? " " : "s ")
+                        + configs.stream().map(LanguageConfig::getLocale).collect(Collectors.joining(", ")));
+            }
+        }
+        if (!added.isEmpty()) {
+            synchronized (this) {
+                if (idleTime >= 0) {
+                    Map<String, String> stubs = new LinkedHashMap<>(this.stubs);
+                    for (String locale : added) {
+                        stubs.put(locale.toLowerCase(Locale.ENGLISH), locale);
+                    }
+                    this.stubs = Collections.unmodifiableMap(stubs);
+                    clearResolvedLocales();
+                    clearSenderConfigs();
+                } else {
+                    addConfigs(createConfigs(added, logger, configCreator));
+                }
+            }
+            logger.log(Level.INFO, "Found locale" + (added.size() == 1 ? " " : "s ") + String.join(", ", added));
+        }
+    }
+
+    /**
+     * Get the state of a file to check whether or not it was modified
+     * @return The last modification time and size of the file or null if it doesn't exist
+     */
+    private static String getFileState(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? attributes.lastModifiedTime() + ":" + attributes.size() : null;
+        } catch (IOException e) {
+            return null;
+        }
     }
 
     /**
@@ -164,22 +952,63 @@ public abstract class LanguageManagerCore<S, C> {
         if (locale == null) {
             return getDefaultConfig();
         }
+        Map<String, LanguageConfig<C>> resolvedLocales = this.resolvedLocales;
+        LanguageConfig<C> config = resolvedLocales.get(locale);
+        if (config == null) {
+            int generation = this.generation;
+            config = resolveConfig(locale);
+            if (config != null && resolvedLocales.size() < MAX_RESOLVED_LOCALES) {
+                resolvedLocales.put(locale, config);
+                if (generation != this.generation) {
+                    // Configs were replaced while resolving, the config might be an outdated one
+                    resolvedLocales.remove(locale, config);
+                }
+            }
+        }
+        if (config != null) {
+            config.markUsed();
+        }
+        return config;
+    }
+
+    private LanguageConfig<C> resolveConfig(String locale) {
         locale = locale.toLowerCase(Locale.ENGLISH);
-        LanguageConfig config = languages.get(locale);
-        if (config == null && locale.contains("_")) {
-            config = languages.get(locale.split("_")[0]);
-            if (config == null) {
-                config = languages.get(locale.split("_")[1]);
+        Map<String, LanguageConfig<C>> languages = this.languages;
+        Map<String, String> stubs = this.stubs;
+        String resolved = null;
+        if (languages.containsKey(locale) || stubs.containsKey(locale)) {
+            resolved = locale;
+        } else if (locale.contains("_")) {
+            for (String part : new String[] {locale.split("_")[0], locale.split("_")[1]}) {
+                if (languages.containsKey(part) || stubs.containsKey(part)) {
+                    resolved = part;
+                    break;
+                }
             }
         }
-        if (config == null) {
-            for (LanguageConfig c : getConfigs()) {
+        if (resolved == null) {
+            for (LanguageConfig<C> c : languages.values()) {
                 if (locale.startsWith(c.getLocale()) || locale.endsWith(c.getLocale())) {
-                    config = c;
+                    resolved = c.getLocale().toLowerCase(Locale.ENGLISH);
+                    break;
+                }
+            }
+        }
+        if (resolved == null) {
+            for (Map.Entry<String, String> stub : stubs.entrySet()) {
+                if (locale.startsWith(stub.getValue()) || locale.endsWith(stub.getValue())) {
+                    resolved = stub.getKey();
                     break;
                 }
             }
         }
+        LanguageConfig<C> config = null;
+        if (resolved != null) {
+            config = languages.get(resolved);
+            if (config == null) {
+                config = loadStub(resolved);
+            }
+        }
         return config != null ? config : getDefaultConfig();
     }
 
@@ -190,17 +1019,229 @@ public abstract class LanguageManagerCore<S, C> {
      *          If no config is defined for that locale it will return the default locale.
      */
     public LanguageConfig<C> getConfig(S sender) {
+        if (sender != null && isConfigCached(sender)) {
+            Map<S, LanguageConfig<C>> senderConfigs = this.senderConfigs;
+            LanguageConfig<C> config = senderConfigs.get(sender);
+            if (config == null) {
+                int generation = this.generation;
+                config = getConfig(provider.getLanguage(sender));
+                if (config != null) {
+                    senderConfigs.put(sender, config);
+                    if (generation != this.generation) {
+                        senderConfigs.remove(sender, config);
+                    }
+                }
+            } else {
+                config.markUsed();
+            }
+            return config;
+        }
         return getConfig(provider.getLanguage(sender));
     }
 
+    /**
+     * Check whether or not the config of a sender should be cached.
+     * Implementations which return true for a sender need to call {@link #clearCachedConfig(Object)}
+     * when the language of the sender changes and when the sender disconnects.
+     * @param sender    The sender
+     * @return <code>true</code> if the config should be cached; <code>false</code> by default
+     */
+    protected boolean isConfigCached(S sender) {
+        return false;
+    }
+
+    /**
+     * Remove the cached config of a sender so that it is queried from the provider again the next time it is requested
+     * @param sender    The sender to remove the cached config of
+     */
+    public void clearCachedConfig(S sender) {
+        senderConfigs.remove(sender);
+    }
+
+    /**
+     * Get a message in the language of a sender.
+     * If the render cache is enabled the result is taken from it when the same message was rendered with the same replacements before.
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The message with the placeholders replaced
+     * @see #setRenderCacheSize(int, long)
+     */
+    public String get(S sender, String key, String... replacements) {
+        MessageTemplate template = getConfig(sender).getTemplate(key);
+        RenderCache renderCache = this.renderCache;
+        if (renderCache != null) {
+            return renderCache.get(template, replacements);
+        }
+        return template.render(replacements);
+    }
+
+    /**
+     * Get the lines of a message in the language of a sender, e.g. to send a list from the config line by line
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return An unmodifiable list of the lines of the message with the placeholders replaced
+     * @see LanguageConfig#getLines(String, String...)
+     */
+    public List<String> getLines(S sender, String key, String... replacements) {
+        return getConfig(sender).getLines(key, replacements);
+    }
+
+    /**
+     * Get the lines of a message in the language of a sender, e.g. to send a list from the config line by line
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}
+     * @return An unmodifiable list of the lines of the message with the placeholders replaced
+     * @see LanguageConfig#getLines(String, PlaceholderResolver)
+     */
+    public List<String> getLines(S sender, String key, PlaceholderResolver replacements) {
+        return getConfig(sender).getLines(key, replacements);
+    }
+
+    /**
+     * Get the interned handle of a message key which can be used to look up messages without hashing the key string.
+     * Handles should be created once and stored, e.g. in a static field.
+     * @param key   The key of the message
+     * @return The handle of the key
+     * @see MessageKey#of(String)
+     */
+    public MessageKey key(String key) {
+        return MessageKey.of(key);
+    }
+
+    /**
+     * Get a message in the language of a sender by the handle of its key.
+     * If the render cache is enabled the result is taken from it when the same message was rendered with the same replacements before.
+     * @param sender        The sender to get the message for
+     * @param key           The handle of the key
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The message with the placeholders replaced
+     * @see #key(String)
+     */
+    public String get(S sender, MessageKey key, String... replacements) {
+        MessageTemplate template = getConfig(sender).getTemplate(key);
+        RenderCache renderCache = this.renderCache;
+        if (renderCache != null) {
+            return renderCache.get(template, replacements);
+        }
+        return template.render(replacements);
+    }
+
+    /**
+     * Get a message in the language of a sender by the handle of its key
+     * @param sender        The sender to get the message for
+     * @param key           The handle of the key
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}
+     * @return The message with the placeholders replaced
+     * @see #key(String)
+     */
+    public String get(S sender, MessageKey key, PlaceholderResolver replacements) {
+        return getConfig(sender).get(key, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to a string builder
+     * @param sender        The sender to get the message for
+     * @param key           The handle of the key
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The builder that was passed in
+     * @see LanguageConfig#render(MessageKey, StringBuilder, String...)
+     */
+    public StringBuilder render(S sender, MessageKey key, StringBuilder out, String... replacements) {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to a string builder
+     * @param sender        The sender to get the message for
+     * @param key           The handle of the key
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}
+     * @return The builder that was passed in
+     * @see LanguageConfig#render(MessageKey, StringBuilder, PlaceholderResolver)
+     */
+    public StringBuilder render(S sender, MessageKey key, StringBuilder out, PlaceholderResolver replacements) {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to a string builder
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The builder that was passed in
+     * @see LanguageConfig#render(String, StringBuilder, String...)
+     */
+    public StringBuilder render(S sender, String key, StringBuilder out, String... replacements) {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to an appendable
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param out           The appendable to append the message to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @param <A>           The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     * @see LanguageConfig#render(String, Appendable, String...)
+     */
+    public <A extends Appendable> A render(S sender, String key, A out, String... replacements) throws IOException {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to a string builder
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param out           The builder to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}
+     * @return The builder that was passed in
+     * @see LanguageConfig#render(String, StringBuilder, PlaceholderResolver)
+     */
+    public StringBuilder render(S sender, String key, StringBuilder out, PlaceholderResolver replacements) {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
+    /**
+     * Append a message in the language of a sender directly to an appendable
+     * @param sender        The sender to get the message for
+     * @param key           The key of the message
+     * @param out           The appendable to append the message to
+     * @param replacements  What to replace the placeholders with, e.g. {@link Replacements}
+     * @param <A>           The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     * @see LanguageConfig#render(String, Appendable, PlaceholderResolver)
+     */
+    public <A extends Appendable> A render(S sender, String key, A out, PlaceholderResolver replacements) throws IOException {
+        return getConfig(sender).render(key, out, replacements);
+    }
+
     /**
      * Get all defined language configs
-     * @return A collection of defined language configs
+     * @return An unmodifiable snapshot of the defined language configs. When {@link #isLazyLoading() loading lazily}
+     *          this only contains the configs which are currently loaded, see {@link #getLocales()}.
      */
     public Collection<LanguageConfig<C>> getConfigs() {
         return languages.values();
     }
 
+    /**
+     * Get the locales of all configs including the ones which weren't loaded yet
+     * @return The lower case locales
+     */
+    public Set<String> getLocales() {
+        Set<String> locales = new LinkedHashSet<>(languages.keySet());
+        locales.addAll(stubs.keySet());
+        return Collections.unmodifiableSet(locales);
+    }
+
     /**
      * Get the default locale to use when no special one was specified or the one requested doesn't exist.
      * Also used as the default config when querying a message by its key.
@@ -216,8 +1257,18 @@ public abstract class LanguageManagerCore<S, C> {
      * If set to null it will use the first define language config.
      * @param locale The default locale string
      */
-    public void setDefaultLocale(String locale) {
+    public synchronized void setDefaultLocale(String locale) {
         defaultLocale = locale;
+        if (locale != null && stubs.containsKey(locale.toLowerCase(Locale.ENGLISH))) {
+            // The default config always stays loaded
+            loadStub(locale.toLowerCase(Locale.ENGLISH));
+            lastUsed.remove(locale.toLowerCase(Locale.ENGLISH));
+        }
+        updateDefaultConfig();
+        updateFallbacks();
+        clearResolvedLocales();
+        clearSenderConfigs();
+        clearRenderCache();
     }
 
     /**
@@ -232,10 +1283,10 @@ public abstract class LanguageManagerCore<S, C> {
      * Set the prefix of placeholders for replacements
      * @param placeholderPrefix The placeholder prefix
      */
-    public void setPlaceholderPrefix(String placeholderPrefix) {
+    public synchronized void setPlaceholderPrefix(String placeholderPrefix) {
         this.placeholderPrefix = placeholderPrefix;
         languages.values().forEach(c -> c.setPlaceholderPrefix(placeholderPrefix));
-        defaultConfig = null;
+        clearRenderCache();
     }
 
     /**
@@ -250,10 +1301,47 @@ public abstract class LanguageManagerCore<S, C> {
      * Set the suffix of placeholders for replacements
      * @param placeholderSuffix The placeholder suffix
      */
-    public void setPlaceholderSuffix(String placeholderSuffix) {
+    public synchronized void setPlaceholderSuffix(String placeholderSuffix) {
         this.placeholderSuffix = placeholderSuffix;
         languages.values().forEach(c -> c.setPlaceholderSuffix(placeholderSuffix));
-        defaultConfig = null;
+        clearRenderCache();
+    }
+
+    /**
+     * Set the size of the cache for messages rendered with {@link #get(Object, String, String...)}.
+     * This is useful if the same messages get rendered with the same replacements very often, e.g. on scoreboards.
+     * @param maxEntries    The maximum amount of cached messages, 0 disables the cache
+     * @param maxWeight     The maximum amount of characters of all cached messages and their replacements
+     */
+    public synchronized void setRenderCacheSize(int maxEntries, long maxWeight) {
+        renderCache = maxEntries > 0 ? new RenderCache(maxEntries, maxWeight) : null;
+    }
+
+    /**
+     * Get the cache of rendered messages, e.g. to check its hit rate
+     * @return The render cache or null if it is disabled
+     */
+    public RenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Forget all resolved locales. The map is replaced instead of cleared so that a resolution
+     * which started before the configs changed can't end up in the new cache.
+     */
+    private void clearResolvedLocales() {
+        resolvedLocales = new ConcurrentHashMap<>();
+    }
+
+    private void clearSenderConfigs() {
+        senderConfigs = new ConcurrentHashMap<>();
+    }
+
+    private void clearRenderCache() {
+        RenderCache renderCache = this.renderCache;
+        if (renderCache != null) {
+            renderCache.clear();
+        }
     }
 
     /**
@@ -261,15 +1349,48 @@ public abstract class LanguageManagerCore<S, C> {
      * @return The default language config. If none was defined it will return the first found language. If none is found then it returns null.
      */
     public LanguageConfig<C> getDefaultConfig() {
-        if (defaultConfig != null && defaultLocale != null && defaultLocale.equals(defaultConfig.getLocale())) {
-            return defaultConfig;
-        }
+        return defaultConfig;
+    }
+
+    private void updateDefaultConfig() {
         if (defaultLocale == null) {
             defaultConfig = languages.isEmpty() ? null : languages.values().iterator().next();
         } else {
             defaultConfig = languages.get(defaultLocale.toLowerCase(Locale.ENGLISH));
         }
-        return defaultConfig;
+    }
+
+    /**
+     * Compute the chain of fallback configs of all configs once so that missing keys can be looked up
+     * without having to parse locale strings. A locale falls back to the config of the language's main
+     * country (e.g. <code>de_at</code> to <code>de_de</code>), then the plain language and lastly the default config.
+     */
+    private void updateFallbacks() {
+        Map<LanguageConfig<?>, List<LanguageConfig<?>>> dependents = new IdentityHashMap<>();
+        for (Map.Entry<String, LanguageConfig<C>> entry : languages.entrySet()) {
+            String locale = entry.getKey();
+            LanguageConfig<C> config = entry.getValue();
+            List<LanguageConfig<?>> chain = new ArrayList<>();
+            int separator = locale.indexOf('_');
+            String language = separator > 0 ? locale.substring(0, separator) : locale;
+            addFallback(chain, config, languages.get(language + "_" + language));
+            addFallback(chain, config, languages.get(language));
+            addFallback(chain, config, defaultConfig);
+            config.setFallbacks(chain.toArray(new LanguageConfig<?>[0]));
+            for (LanguageConfig<?> fallback : chain) {
+                dependents.computeIfAbsent(fallback, c -> new ArrayList<>()).add(config);
+            }
+        }
+        // So that configs which are reloaded by themselves can clear the caches of the configs that fall back to them
+        for (LanguageConfig<C> config : languages.values()) {
+            config.setDependents(dependents.getOrDefault(config, Collections.emptyList()).toArray(new LanguageConfig<?>[0]));
+        }
+    }
+
+    private static void addFallback(List<LanguageConfig<?>> chain, LanguageConfig<?> config, LanguageConfig<?> fallback) {
+        if (fallback != null && fallback != config && !chain.contains(fallback)) {
+            chain.add(fallback);
+        }
     }
 
     /**
@@ -293,11 +1414,12 @@ public abstract class LanguageManagerCore<S, C> {
      * @param provider The provider
      * @throws IllegalArgumentException when provider is null
      */
-    public void setProvider(LanguageProvider<S> provider) throws IllegalArgumentException {
+    public synchronized void setProvider(LanguageProvider<S> provider) throws IllegalArgumentException {
         if (provider == null) {
             throw new IllegalArgumentException("Provider cannot be null!");
         }
         this.provider = provider;
+        clearSenderConfigs();
     }
 
     /**
@@ -308,4 +1430,123 @@ public abstract class LanguageManagerCore<S, C> {
         return provider;
     }
 
+    /**
+     * Watches the folder of a manager for changed files on its own daemon thread. Events are collected until
+     * no new ones arrived for {@link #DELAY} milliseconds so that a file is only loaded once when it is saved
+     * in multiple steps or multiple files are changed at once.
+     */
+    private static final class FileWatcher implements Runnable {
+        private static final long DELAY = 500;
+
+        private final WeakReference<LanguageManagerCore<?, ?>> manager;
+        private final Path folder;
+        private final WatchService watchService;
+
+        private FileWatcher(LanguageManagerCore<?, ?> manager, Path folder) throws IOException {
+            this.manager = new WeakReference<>(manager);
+            this.folder = folder;
+            watchService = folder.getFileSystem().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread thread = new Thread(this, "lang-watcher-" + folder.getFileName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    // Not blocking indefinitely so that the thread stops when the manager was garbage collected
+                    WatchKey key = watchService.poll(1, TimeUnit.SECONDS);
+                    if (key == null) {
+                        if (manager.get() == null) {
+                            close();
+                            return;
+                        }
+                        continue;
+                    }
+                    Set<String> fileNames = new LinkedHashSet<>();
+                    while (key != null) {
+                        for (WatchEvent<?> event : key.pollEvents()) {
+                            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                                // Events were lost, check all files
+                                String[] names = folder.toFile().list();
+                                if (names != null) {
+                                    Collections.addAll(fileNames, names);
+                                }
+                            } else {
+                                fileNames.add(event.context().toString());
+                            }
+                        }
+                        if (!key.reset()) {
+                            // The folder is no longer accessible
+                            close();
+                            return;
+                        }
+                        key = watchService.poll(DELAY, TimeUnit.MILLISECONDS);
+                    }
+                    LanguageManagerCore<?, ?> manager = this.manager.get();
+                    if (manager == null) {
+                        close();
+                        return;
+                    }
+                    try {
+                        manager.reloadFiles(fileNames);
+                    } catch (RuntimeException e) {
+                        if (manager.logger != null) {
+                            manager.logger.log(Level.WARNING, "Error while reloading changed language files!", e);
+                        }
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // Stopped
+            }
+        }
+
+        private void close() {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {}
+        }
+    }
+
+    /**
+     * Runs the background tasks of all managers on a single daemon thread. Tasks only weakly reference
+     * their manager and stop once it was garbage collected so that unloaded plugins don't leak.
+     */
+    private static final class Scheduler {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "lang-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private Scheduler() {}
+
+        /**
+         * Periodically run a task for a manager
+         * @param manager   The manager
+         * @param task      The task to run
+         * @param period    The time between two runs in nanoseconds
+         * @return The future of the scheduled task
+         */
+        static <M> ScheduledFuture<?> schedule(M manager, Consumer<M> task, long period) {
+            WeakReference<M> reference = new WeakReference<>(manager);
+            ScheduledFuture<?>[] future = new ScheduledFuture<?>[1];
+            synchronized (future) {
+                future[0] = EXECUTOR.scheduleWithFixedDelay(() -> {
+                    M m = reference.get();
+                    if (m != null) {
+                        task.accept(m);
+                    } else {
+                        synchronized (future) {
+                            future[0].cancel(false);
+                        }
+                    }
+                }, period, period, TimeUnit.NANOSECONDS);
+            }
+            return future[0];
+        }
+    }
+
 }
@@ -0,0 +1,299 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compiled catalog of the messages of a config which can be loaded without parsing the language files.
+ * <p>
+ * The format is a header (magic, version, hash of the language files, placeholder prefix and suffix)
+ * followed by a table of all distinct strings, the default messages and the messages as pairs of string indexes
+ * and lastly the placeholders of all messages with placeholders and where they are in the message.
+ * Strings are stored as UTF-8 and referenced by their index so keys and messages which also appear
+ * in the defaults are only stored once.
+ */
+final class MessageCatalog {
+    private static final int MAGIC = 0x4C414E47; // LANG
+    private static final int VERSION = 2;
+    private static final int NULL = -1;
+
+    private final Map<String, String> defaultMessages;
+    private final MessageTable messages;
+    private final Map<String, MessageTemplate> templates;
+
+    private MessageCatalog(Map<String, String> defaultMessages, MessageTable messages, Map<String, MessageTemplate> templates) {
+        this.defaultMessages = defaultMessages;
+        this.messages = messages;
+        this.templates = templates;
+    }
+
+    /**
+     * Compute the hash of the content of the language files that a catalog is compiled from
+     * @param resourceContent   The content of the default resource or null if there is none
+     * @param fileContent       The content of the config file or null if it is the same as the resource
+     * @return The hash
+     */
+    static byte[] hash(byte[] resourceContent, byte[] fileContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(resourceContent != null ? (byte) 1 : 0);
+            if (resourceContent != null) {
+                digest.update(resourceContent);
+            }
+            digest.update(fileContent != null ? (byte) 1 : 0);
+            if (fileContent != null) {
+                digest.update(fileContent);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read a catalog
+     * @param file      The file of the catalog
+     * @param hash      The hash of the language files which the catalog needs to be compiled from
+     * @param prefix    The current placeholder prefix, templates are only used if it is the same as the catalog's
+     * @param suffix    The current placeholder suffix, templates are only used if it is the same as the catalog's
+     * @return The catalog or null if it doesn't exist, is outdated or corrupt
+     * @throws IOException If the file exists but couldn't be read
+     */
+    static MessageCatalog read(Path file, byte[] hash, String prefix, String suffix) throws IOException {
+        ByteBuffer buffer;
+        try {
+            // Not memory-mapped as that would keep the file locked on some systems until the buffer is collected
+            buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            byte[] catalogHash = new byte[buffer.getInt()];
+            buffer.get(catalogHash);
+            if (!Arrays.equals(hash, catalogHash)) {
+                return null;
+            }
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            String catalogPrefix = string(strings, buffer.getInt());
+            String catalogSuffix = string(strings, buffer.getInt());
+            boolean useTemplates = prefix.equals(catalogPrefix) && suffix.equals(catalogSuffix);
+
+            int defaultCount = buffer.getInt();
+            Map<String, String> defaultMessages = new HashMap<>(defaultCount * 4 / 3 + 1);
+            for (int i = 0; i < defaultCount; i++) {
+                defaultMessages.put(strings[buffer.getInt()], string(strings, buffer.getInt()));
+            }
+
+            int messageCount = buffer.getInt();
+            Map<String, String> messages = new HashMap<>(messageCount * 4 / 3 + 1);
+            Set<String> defaultKeys = new HashSet<>();
+            for (int i = 0; i < messageCount; i++) {
+                String key = strings[buffer.getInt()];
+                messages.put(key, string(strings, buffer.getInt()));
+                if (buffer.get() != 0) {
+                    defaultKeys.add(key);
+                }
+            }
+
+            int templateCount = buffer.getInt();
+            Map<String, MessageTemplate> templates = new HashMap<>();
+            for (int i = 0; i < templateCount; i++) {
+                String key = strings[buffer.getInt()];
+                String source = messages.get(key);
+                String[] placeholders = new String[buffer.getInt()];
+                int[] starts = new int[placeholders.length];
+                int[] ends = new int[placeholders.length];
+                for (int j = 0; j < placeholders.length; j++) {
+                    placeholders[j] = strings[buffer.getInt()];
+                    starts[j] = buffer.getInt();
+                    ends[j] = buffer.getInt();
+                    if (source == null || starts[j] < 0 || starts[j] > ends[j] || ends[j] > source.length()) {
+                        return null;
+                    }
+                }
+                if (useTemplates) {
+                    templates.put(key, new MessageTemplate(source, prefix, suffix, placeholders, starts, ends));
+                }
+            }
+
+            return new MessageCatalog(
+                    MessageTable.toStorage(defaultMessages),
+                    new MessageTable(MessageTable.toStorage(messages),
+                            defaultKeys.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(defaultKeys)),
+                    templates);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            // Truncated or corrupt, it will be compiled again
+            return null;
+        }
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NULL ? null : strings[index];
+    }
+
+    /**
+     * Write a catalog. The file is written to a temporary file first and then moved so that
+     * readers never see a partially written catalog.
+     * @param file              The file to write to
+     * @param hash              The hash of the language files which the catalog is compiled from
+     * @param prefix            The placeholder prefix of the templates
+     * @param suffix            The placeholder suffix of the templates
+     * @param defaultMessages   The default messages
+     * @param messages          The messages with the defaults merged in
+     * @throws IOException If the file couldn't be written
+     */
+    static void write(Path file, byte[] hash, String prefix, String suffix, Map<String, String> defaultMessages, MessageTable messages) throws IOException {
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        Map<String, MessageTemplate> templates = new LinkedHashMap<>();
+        index(indexes, prefix);
+        index(indexes, suffix);
+        for (Map.Entry<String, String> entry : defaultMessages.entrySet()) {
+            index(indexes, entry.getKey());
+            index(indexes, entry.getValue());
+        }
+        for (Map.Entry<String, String> entry : messages.asMap().entrySet()) {
+            index(indexes, entry.getKey());
+            index(indexes, entry.getValue());
+            if (entry.getValue() != null) {
+                MessageTemplate template = MessageTemplate.compile(entry.getValue(), prefix, suffix);
+                if (template.hasPlaceholders()) {
+                    templates.put(entry.getKey(), template);
+                    for (String placeholder : template.getPlaceholders()) {
+                        index(indexes, placeholder);
+                    }
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(hash.length);
+        out.write(hash);
+
+        out.writeInt(indexes.size());
+        for (String string : indexes.keySet()) {
+            byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(utf8.length);
+            out.write(utf8);
+        }
+        out.writeInt(indexes.get(prefix));
+        out.writeInt(indexes.get(suffix));
+
+        out.writeInt(defaultMessages.size());
+        for (Map.Entry<String, String> entry : defaultMessages.entrySet()) {
+            out.writeInt(indexes.get(entry.getKey()));
+            out.writeInt(entry.getValue() != null ? indexes.get(entry.getValue()) : NULL);
+        }
+
+        out.writeInt(messages.size());
+        for (Map.Entry<String, String> entry : messages.asMap().entrySet()) {
+            out.writeInt(indexes.get(entry.getKey()));
+            out.writeInt(entry.getValue() != null ? indexes.get(entry.getValue()) : NULL);
+            out.writeBoolean(messages.isDefault(entry.getKey()));
+        }
+
+        out.writeInt(templates.size());
+        for (Map.Entry<String, MessageTemplate> entry : templates.entrySet()) {
+            String[] placeholders = entry.getValue().getPlaceholders();
+            int[] starts = entry.getValue().getStarts();
+            int[] ends = entry.getValue().getEnds();
+            out.writeInt(indexes.get(entry.getKey()));
+            out.writeInt(placeholders.length);
+            for (int i = 0; i < placeholders.length; i++) {
+                out.writeInt(indexes.get(placeholders[i]));
+                out.writeInt(starts[i]);
+                out.writeInt(ends[i]);
+            }
+        }
+        out.flush();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void index(Map<String, Integer> indexes, String string) {
+        if (string != null && !indexes.containsKey(string)) {
+            indexes.put(string, indexes.size());
+        }
+    }
+
+    /**
+     * Get the default messages
+     * @return An unmodifiable map of the default messages
+     */
+    Map<String, String> getDefaultMessages() {
+        return defaultMessages;
+    }
+
+    /**
+     * Get the messages with the defaults merged in
+     * @return The message table
+     */
+    MessageTable getMessages() {
+        return messages;
+    }
+
+    /**
+     * Get the compiled templates of all messages with placeholders
+     * @return The templates by their key, empty if the catalog was compiled with a different prefix or suffix
+     */
+    Map<String, MessageTemplate> getTemplates() {
+        return templates;
+    }
+}
@@ -0,0 +1,29 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+public interface MessageChangeListener {
+
+    /**
+     * Called after the messages of a locale changed because it was reloaded.
+     * Called on the thread that reloaded the locale, the new messages are already in use.
+     * @param changes   The keys which were added, removed or changed
+     */
+    void onChange(MessageChanges changes);
+}
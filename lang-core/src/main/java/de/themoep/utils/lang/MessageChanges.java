@@ -0,0 +1,130 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The keys of a locale whose messages were added, removed or changed when it was reloaded. Instances are immutable.
+ */
+public final class MessageChanges {
+    private final String locale;
+    private final Set<String> added;
+    private final Set<String> removed;
+    private final Set<String> changed;
+
+    private MessageChanges(String locale, Set<String> added, Set<String> removed, Set<String> changed) {
+        this.locale = locale;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    /**
+     * Compare the messages of a locale before and after it was reloaded
+     * @param locale    The locale
+     * @param previous  The previous messages, {@link MessageTable#EMPTY} if the locale is new
+     * @param current   The new messages
+     * @return The changes
+     */
+    public static MessageChanges compare(String locale, MessageTable previous, MessageTable current) {
+        Set<String> added = new HashSet<>();
+        Set<String> removed = new HashSet<>();
+        Set<String> changed = new HashSet<>();
+        Map<String, String> previousMessages = previous.asMap();
+        Map<String, String> currentMessages = current.asMap();
+        for (Map.Entry<String, String> entry : currentMessages.entrySet()) {
+            if (!previousMessages.containsKey(entry.getKey())) {
+                added.add(entry.getKey());
+            } else if (!Objects.equals(entry.getValue(), previousMessages.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : previousMessages.keySet()) {
+            if (!currentMessages.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        return new MessageChanges(locale, unmodifiable(added), unmodifiable(removed), unmodifiable(changed));
+    }
+
+    private static Set<String> unmodifiable(Set<String> keys) {
+        return keys.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Get the locale of the changed messages
+     * @return The locale
+     */
+    public String getLocale() {
+        return locale;
+    }
+
+    /**
+     * Get the keys which didn't exist before
+     * @return An unmodifiable set of keys
+     */
+    public Set<String> getAdded() {
+        return added;
+    }
+
+    /**
+     * Get the keys which don't exist anymore
+     * @return An unmodifiable set of keys
+     */
+    public Set<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Get the keys whose message changed
+     * @return An unmodifiable set of keys
+     */
+    public Set<String> getChanged() {
+        return changed;
+    }
+
+    /**
+     * Get all keys which were added, removed or changed
+     * @return An unmodifiable set of keys
+     */
+    public Set<String> getKeys() {
+        Set<String> keys = new HashSet<>(added);
+        keys.addAll(removed);
+        keys.addAll(changed);
+        return unmodifiable(keys);
+    }
+
+    /**
+     * Check whether or not nothing changed
+     * @return <code>true</code> if no key was added, removed or changed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageChanges{locale=" + locale + ", added=" + added + ", removed=" + removed + ", changed=" + changed + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An interned handle of a message key. Every key string has exactly one handle with a unique ordinal
+ * which configs use as an index into an array of their compiled templates, so looking up a message
+ * by its handle doesn't require hashing or comparing the key string.
+ * <p>
+ * Handles are meant to be created once and stored, e.g. in a static field:
+ * <pre>private static final MessageKey HELP_HEADER = MessageKey.of("commands.help.header");</pre>
+ */
+public final class MessageKey {
+    private static final Map<String, MessageKey> KEYS = new ConcurrentHashMap<>();
+
+    private final String key;
+    private final int ordinal;
+
+    private MessageKey(String key, int ordinal) {
+        this.key = key;
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Get the handle of a key, it is created if it doesn't exist yet
+     * @param key   The key of the message
+     * @return The handle of the key, always the same instance for the same key
+     * @throws IllegalArgumentException when the key is null
+     */
+    public static MessageKey of(String key) throws IllegalArgumentException {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null!");
+        }
+        MessageKey messageKey = KEYS.get(key);
+        if (messageKey == null) {
+            synchronized (KEYS) {
+                messageKey = KEYS.get(key);
+                if (messageKey == null) {
+                    messageKey = new MessageKey(key, KEYS.size());
+                    KEYS.put(key, messageKey);
+                }
+            }
+        }
+        return messageKey;
+    }
+
+    /**
+     * Get the amount of handles which exist, all ordinals are lower than this
+     * @return The amount of handles
+     */
+    public static int count() {
+        return KEYS.size();
+    }
+
+    /**
+     * Get the key string of this handle
+     * @return The key of the message
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Get the ordinal of this handle. Ordinals are assigned in the order the handles were created, starting at 0.
+     * @return The ordinal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,154 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only table of all messages of a locale with the default messages already merged in,
+ * so that getting a message is always a single lookup. Instances are immutable.
+ */
+public final class MessageTable {
+    /** An empty table */
+    public static final MessageTable EMPTY = new MessageTable(Collections.emptyMap(), Collections.emptySet());
+    /** Whether or not the messages should be stored outside of the heap */
+    private static final boolean OFF_HEAP = Boolean.getBoolean("de.themoep.utils.lang.offheap");
+
+    /** All keys to their message, keys which exist but have no message (e.g. sections) map to null */
+    private final Map<String, String> messages;
+    /** The keys whose message came from the defaults */
+    private final Set<String> defaultKeys;
+
+    MessageTable(Map<String, String> messages, Set<String> defaultKeys) {
+        this.messages = messages;
+        this.defaultKeys = defaultKeys;
+    }
+
+    /**
+     * Merge messages with their defaults into a new table
+     * @param messages  The messages, keys without a message (e.g. sections) should map to null
+     * @param defaults  The default messages that are used for keys which have no message
+     * @return The merged table
+     */
+    public static MessageTable of(Map<String, String> messages, Map<String, String> defaults) {
+        if (defaults.isEmpty() || messages == defaults) {
+            return new MessageTable(toStorage(OFF_HEAP ? messages : new HashMap<>(messages)), Collections.emptySet());
+        }
+        Map<String, String> merged = new HashMap<>(messages);
+        Set<String> defaultKeys = new HashSet<>();
+        for (Map.Entry<String, String> entry : defaults.entrySet()) {
+            if (merged.get(entry.getKey()) == null
+                    && (entry.getValue() != null || !merged.containsKey(entry.getKey()))) {
+                merged.put(entry.getKey(), entry.getValue());
+                defaultKeys.add(entry.getKey());
+            }
+        }
+        return new MessageTable(toStorage(merged),
+                defaultKeys.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(defaultKeys));
+    }
+
+    /**
+     * Move messages out of the heap if that is enabled with the <code>de.themoep.utils.lang.offheap</code> system property.
+     * The text of the messages is then stored as UTF-8 in a direct buffer and only decoded when a message is requested.
+     * @param messages  The messages, the map must not be modified afterwards as it might get wrapped instead of copied
+     * @return An immutable off-heap copy of the messages or an unmodifiable view of them if off-heap storage is disabled
+     */
+    static Map<String, String> toStorage(Map<String, String> messages) {
+        if (messages.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (messages instanceof OffHeapMessages) {
+            return messages;
+        }
+        if (OFF_HEAP) {
+            return new OffHeapMessages(messages);
+        }
+        return Collections.unmodifiableMap(messages);
+    }
+
+    /**
+     * Create a new table with the same messages but different defaults
+     * @param defaults  The new default messages
+     * @return The merged table
+     */
+    public MessageTable withDefaults(Map<String, String> defaults) {
+        Map<String, String> messages = this.messages;
+        if (!defaultKeys.isEmpty()) {
+            messages = new HashMap<>(messages);
+            messages.keySet().removeAll(defaultKeys);
+        }
+        return of(messages, defaults);
+    }
+
+    /**
+     * Get a message
+     * @param key   The key of the message
+     * @return The message or null if neither the messages nor the defaults have one for this key
+     */
+    public String get(String key) {
+        return messages.get(key);
+    }
+
+    /**
+     * Check whether or not the table contains a certain key
+     * @param key           The key
+     * @param checkDefault  Whether or not to check the defaults too
+     * @return <code>true</code> if the key exists (or exists in the defaults if checked)
+     */
+    public boolean contains(String key, boolean checkDefault) {
+        return messages.containsKey(key) && (checkDefault || !defaultKeys.contains(key));
+    }
+
+    /**
+     * Check whether or not the message of a key is taken from the defaults, e.g. because it is not translated
+     * @param key   The key
+     * @return <code>true</code> if the message came from the defaults
+     */
+    public boolean isDefault(String key) {
+        return defaultKeys.contains(key);
+    }
+
+    /**
+     * Get all messages, including the ones from the defaults
+     * @return An unmodifiable map of all keys to their message, keys without a message map to null
+     */
+    public Map<String, String> asMap() {
+        return messages;
+    }
+
+    /**
+     * Get all keys whose message is taken from the defaults
+     * @return An unmodifiable set of keys
+     */
+    public Set<String> getDefaultKeys() {
+        return defaultKeys;
+    }
+
+    /**
+     * Get the amount of keys in this table
+     * @return The amount of keys, including the ones from the defaults
+     */
+    public int size() {
+        return messages.size();
+    }
+}
@@ -0,0 +1,328 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A message whose placeholders were found once so that replacing them only requires a single pass over the message.
+ * Every prefix followed by a non-empty name and the suffix might be a placeholder, as long as the name doesn't contain
+ * the prefix itself. Like when replacing the placeholders one after another, a placeholder is only replaced if a value
+ * for its name is given, otherwise its text is kept and placeholders which start inside of it can still be replaced,
+ * e.g. <code>%player%</code> in <code>5%/%player%</code> or <code>%player name%</code> in <code>50% of %player name%</code>.
+ * When replacing with an array later replacements also apply to the inserted values.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class MessageTemplate {
+    private static final String[] NO_PLACEHOLDERS = new String[0];
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final String source;
+    private final String prefix;
+    private final String suffix;
+    /** The names of the possible placeholders in the order they start in, they might overlap */
+    private final String[] placeholders;
+    /** The index of the prefix of each placeholder in the source */
+    private final int[] starts;
+    /** The index after the suffix of each placeholder in the source */
+    private final int[] ends;
+
+    MessageTemplate(String source, String prefix, String suffix, String[] placeholders, int[] starts, int[] ends) {
+        this.source = source;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.placeholders = placeholders;
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Parse a message into a template
+     * @param source    The message to parse
+     * @param prefix    The prefix of placeholders
+     * @param suffix    The suffix of placeholders
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String source, String prefix, String suffix) {
+        if (prefix.isEmpty() || suffix.isEmpty()) {
+            return new MessageTemplate(source, prefix, suffix, NO_PLACEHOLDERS, NO_POSITIONS, NO_POSITIONS);
+        }
+        List<String> placeholders = null;
+        int[] starts = NO_POSITIONS;
+        int[] ends = NO_POSITIONS;
+        // Every prefix might open a placeholder, even the suffix of another one
+        for (int start = source.indexOf(prefix); start > -1; start = source.indexOf(prefix, start + 1)) {
+            int nameStart = start + prefix.length();
+            int end = source.indexOf(suffix, nameStart);
+            if (end < 0) {
+                break;
+            }
+            int nextPrefix = source.indexOf(prefix, nameStart);
+            if (end == nameStart || (nextPrefix > -1 && nextPrefix < end)) {
+                continue;
+            }
+            if (placeholders == null) {
+                placeholders = new ArrayList<>();
+                starts = new int[4];
+                ends = new int[4];
+            } else if (placeholders.size() == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            starts[placeholders.size()] = start;
+            ends[placeholders.size()] = end + suffix.length();
+            placeholders.add(source.substring(nameStart, end));
+        }
+        if (placeholders == null) {
+            return new MessageTemplate(source, prefix, suffix, NO_PLACEHOLDERS, NO_POSITIONS, NO_POSITIONS);
+        }
+        return new MessageTemplate(source, prefix, suffix, placeholders.toArray(new String[0]),
+                Arrays.copyOf(starts, placeholders.size()), Arrays.copyOf(ends, placeholders.size()));
+    }
+
+    /**
+     * Render this template into a new string
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The message with all known placeholders replaced
+     */
+    public String render(String... replacements) {
+        if (placeholders.length == 0) {
+            return source;
+        }
+        StringBuilder sb = new StringBuilder(source.length() + placeholders.length * 8);
+        render(sb, replacements);
+        return sb.toString();
+    }
+
+    /**
+     * Render this template into a string builder
+     * @param out           The builder to append to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     *                      Placeholders without a replacement are kept as they are.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(StringBuilder out, String... replacements) {
+        int position = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            if (starts[i] < position) {
+                // Inside of a placeholder which was already replaced
+                continue;
+            }
+            int index = indexOf(placeholders[i], replacements);
+            if (index > -1) {
+                out.append(source, position, starts[i]).append(value(replacements, index));
+                position = ends[i];
+            }
+        }
+        return out.append(source, position, source.length());
+    }
+
+    /**
+     * Render this template into an appendable
+     * @param out           The appendable to append to
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     *                      Placeholders without a replacement are kept as they are.
+     * @param <A>           The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     */
+    public <A extends Appendable> A render(A out, String... replacements) throws IOException {
+        if (out instanceof StringBuilder) {
+            render((StringBuilder) out, replacements);
+            return out;
+        }
+        int position = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            if (starts[i] < position) {
+                continue;
+            }
+            int index = indexOf(placeholders[i], replacements);
+            if (index > -1) {
+                out.append(source, position, starts[i]).append(value(replacements, index));
+                position = ends[i];
+            }
+        }
+        out.append(source, position, source.length());
+        return out;
+    }
+
+    /**
+     * Get the value of a replacement. Like when replacing one placeholder after another
+     * the following replacements are applied to it if it contains placeholders itself.
+     */
+    private String value(String[] replacements, int index) {
+        String value = replacements[index + 1];
+        if (value == null) {
+            return "null";
+        }
+        if (index + 3 < replacements.length && value.contains(prefix)) {
+            return compile(value, prefix, suffix).render(Arrays.copyOfRange(replacements, index + 2, replacements.length));
+        }
+        return value;
+    }
+
+    /**
+     * Render this template into a new string
+     * @param resolver  The resolver for the values of the placeholders
+     * @return The message with all known placeholders replaced
+     */
+    public String render(PlaceholderResolver resolver) {
+        if (placeholders.length == 0) {
+            return source;
+        }
+        StringBuilder sb = new StringBuilder(source.length() + placeholders.length * 8);
+        render(sb, resolver);
+        return sb.toString();
+    }
+
+    /**
+     * Render this template into a string builder
+     * @param out       The builder to append to
+     * @param resolver  The resolver for the values of the placeholders.
+     *                  Placeholders which it doesn't know are kept as they are.
+     * @return The builder that was passed in
+     */
+    public StringBuilder render(StringBuilder out, PlaceholderResolver resolver) {
+        int position = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            if (starts[i] < position) {
+                continue;
+            }
+            out.append(source, position, starts[i]);
+            position = starts[i];
+            if (resolver.appendTo(out, placeholders[i])) {
+                position = ends[i];
+            }
+        }
+        return out.append(source, position, source.length());
+    }
+
+    /**
+     * Render this template into an appendable
+     * @param out       The appendable to append to
+     * @param resolver  The resolver for the values of the placeholders.
+     *                  Placeholders which it doesn't know are kept as they are.
+     * @param <A>       The type of the appendable
+     * @return The appendable that was passed in
+     * @throws IOException If the appendable throws one
+     */
+    public <A extends Appendable> A render(A out, PlaceholderResolver resolver) throws IOException {
+        if (out instanceof StringBuilder) {
+            render((StringBuilder) out, resolver);
+            return out;
+        }
+        StringBuilder value = null;
+        int position = 0;
+        for (int i = 0; i < placeholders.length; i++) {
+            if (starts[i] < position) {
+                continue;
+            }
+            if (value == null) {
+                value = new StringBuilder();
+            } else {
+                value.setLength(0);
+            }
+            if (resolver.appendTo(value, placeholders[i])) {
+                out.append(source, position, starts[i]).append(value);
+                position = ends[i];
+            }
+        }
+        out.append(source, position, source.length());
+        return out;
+    }
+
+    private static int indexOf(String placeholder, String[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (placeholder.equals(replacements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether or not this template was compiled with certain placeholder delimiters
+     * @param prefix    The prefix of placeholders
+     * @param suffix    The suffix of placeholders
+     * @return <code>true</code> if the same prefix and suffix were used
+     */
+    boolean isCompiledWith(String prefix, String suffix) {
+        return this.prefix.equals(prefix) && this.suffix.equals(suffix);
+    }
+
+    /**
+     * Get the message that this template was compiled from
+     * @return The original message
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get the index of the prefix of every placeholder in the source
+     * @return The start indexes in the order of {@link #getPlaceholders()}
+     */
+    int[] getStarts() {
+        return starts;
+    }
+
+    /**
+     * Get the index after the suffix of every placeholder in the source
+     * @return The end indexes in the order of {@link #getPlaceholders()}
+     */
+    int[] getEnds() {
+        return ends;
+    }
+
+    /**
+     * Get the names of all possible placeholders in this template in the order they start in.
+     * As it is only known which ones are placeholders when the template is rendered, this includes text between
+     * two placeholders too, e.g. <code> of </code> in <code>50% of %player%</code>.
+     * Placeholders which are used multiple times will be included multiple times.
+     * @return A copy of the placeholder names (without prefix and suffix)
+     */
+    public String[] getPlaceholders() {
+        return placeholders.clone();
+    }
+
+    /**
+     * Check whether or not this template contains any placeholders
+     * @return <code>true</code> if there is at least one placeholder, <code>false</code> if it's only literal text
+     */
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * Check whether or not this template contains a certain placeholder
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @return <code>true</code> if the placeholder is used in this template
+     */
+    public boolean hasPlaceholder(String placeholder) {
+        for (String p : placeholders) {
+            if (p.equals(placeholder)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,161 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of keys to messages which stores the messages as UTF-8 in a direct buffer outside of the heap.
+ * The keys are kept in an open addressing table together with the offset and length of their message,
+ * messages are only decoded when they are requested.
+ */
+final class OffHeapMessages extends AbstractMap<String, String> {
+    private final String[] keys;
+    private final int[] offsets;
+    /** The length of the message in bytes or -1 if the key has no message */
+    private final int[] lengths;
+    private final ByteBuffer buffer;
+    private final int size;
+
+    /**
+     * Copy messages into a new off-heap map
+     * @param messages  The messages to copy, keys without a message map to null
+     */
+    OffHeapMessages(Map<String, String> messages) {
+        size = messages.size();
+        int capacity = Integer.highestOneBit(Math.max(size * 2, 2) - 1) << 1;
+        keys = new String[capacity];
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+
+        byte[][] encoded = new byte[capacity][];
+        int totalLength = 0;
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            int slot = slot(entry.getKey());
+            keys[slot] = entry.getKey();
+            if (entry.getValue() != null) {
+                encoded[slot] = entry.getValue().getBytes(StandardCharsets.UTF_8);
+                totalLength += encoded[slot].length;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(totalLength, 1));
+        for (int i = 0; i < capacity; i++) {
+            if (encoded[i] != null) {
+                offsets[i] = buffer.position();
+                lengths[i] = encoded[i].length;
+                buffer.put(encoded[i]);
+            } else {
+                lengths[i] = -1;
+            }
+        }
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Get the slot of a key, either the one which contains it or the empty one where it would be
+     */
+    private int slot(Object key) {
+        int mask = keys.length - 1;
+        int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        while (keys[slot] != null && !keys[slot].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private String decode(int slot) {
+        int length = lengths[slot];
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        // Duplicate so that concurrent readers don't share the position
+        ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(offsets[slot]);
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int slot = slot(key);
+        return keys[slot] != null ? decode(slot) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && keys[slot(key)] != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return new AbstractSet<Map.Entry<String, String>>() {
+            @Override
+            public Iterator<Map.Entry<String, String>> iterator() {
+                return new Iterator<Map.Entry<String, String>>() {
+                    private int next = advance(0);
+
+                    private int advance(int slot) {
+                        while (slot < keys.length && keys[slot] == null) {
+                            slot++;
+                        }
+                        return slot;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Map.Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int slot = next;
+                        next = advance(slot + 1);
+                        return new SimpleImmutableEntry<>(keys[slot], decode(slot));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Map;
+
+/**
+ * Supplies the values of placeholders while a {@link MessageTemplate} is rendered.
+ * It is only asked for placeholders that are actually used in the message.
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    /**
+     * Append the value of a placeholder
+     * @param out           The builder to append the value to
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @return <code>true</code> if the value was appended, <code>false</code> if the placeholder is unknown
+     *          and should be kept as it is
+     */
+    boolean appendTo(StringBuilder out, String placeholder);
+
+    /**
+     * Get a resolver which looks up the placeholders of a message in a map.
+     * The map is not copied, so the cost only depends on the amount of placeholders in the message.
+     * @param values    The map of placeholder names (without prefix and suffix) to their values
+     * @return A resolver backed by the map
+     */
+    static PlaceholderResolver of(Map<String, ?> values) {
+        return (out, placeholder) -> {
+            Object value = values.get(placeholder);
+            if (value == null && !values.containsKey(placeholder)) {
+                return false;
+            }
+            if (value instanceof CharSequence) {
+                out.append((CharSequence) value);
+            } else {
+                out.append(value);
+            }
+            return true;
+        };
+    }
+}
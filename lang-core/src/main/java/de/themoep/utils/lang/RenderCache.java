@@ -0,0 +1,241 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of rendered messages with least-recently-used eviction.
+ * Entries are keyed by the {@link MessageTemplate} instance and the replacement values, as templates are
+ * recompiled whenever their config gets reloaded or the placeholder prefix/suffix changes, outdated
+ * results can never be returned. The cache is split into segments which are locked separately.
+ */
+public final class RenderCache {
+    private static final int SEGMENTS = 16;
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a new render cache
+     * @param maxEntries    The maximum amount of cached messages
+     * @param maxWeight     The maximum amount of characters of all cached messages and their replacements
+     */
+    public RenderCache(int maxEntries, long maxWeight) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("Cache size and weight need to be positive!");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(Math.max(maxEntries / SEGMENTS, 1), Math.max(maxWeight / SEGMENTS, 1));
+        }
+    }
+
+    /**
+     * Get a rendered message from the cache or render and cache it
+     * @param template      The template to render
+     * @param replacements  What to replace the placeholders with. The n-th index is the placeholder, the n+1-th the value.
+     * @return The message with the placeholders replaced
+     */
+    public String get(MessageTemplate template, String... replacements) {
+        if (!template.hasPlaceholders()) {
+            return template.getSource();
+        }
+        Key key = new Key(template, replacements);
+        Segment segment = segments[(key.hash ^ (key.hash >>> 16)) & (SEGMENTS - 1)];
+        String message;
+        synchronized (segment) {
+            message = segment.map.get(key);
+        }
+        if (message != null) {
+            hits.increment();
+            return message;
+        }
+        misses.increment();
+        message = template.render(replacements);
+        Key stored = new Key(template, replacements.clone(), key.hash);
+        synchronized (segment) {
+            segment.put(stored, message);
+        }
+        return message;
+    }
+
+    /**
+     * Remove all cached messages
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    /**
+     * Remove the cached messages of specific templates, e.g. the ones of a config that was reloaded
+     * @param templates The templates to remove the messages of
+     */
+    void remove(Collection<MessageTemplate> templates) {
+        if (templates.isEmpty()) {
+            return;
+        }
+        Set<MessageTemplate> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(templates);
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                Iterator<Map.Entry<Key, String>> it = segment.map.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Key, String> entry = it.next();
+                    if (removed.contains(entry.getKey().template)) {
+                        segment.weight -= Segment.weight(entry.getKey(), entry.getValue());
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of times a message was found in the cache
+     * @return The amount of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the amount of times a message had to be rendered
+     * @return The amount of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the amount of currently cached messages
+     * @return The amount of cached messages
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Get the maximum amount of cached messages
+     * @return The maximum amount of messages
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Get the maximum amount of characters of all cached messages and their replacements
+     * @return The maximum weight
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    private static class Segment {
+        private final LinkedHashMap<Key, String> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maxEntries;
+        private final long maxWeight;
+        private long weight = 0;
+
+        private Segment(int maxEntries, long maxWeight) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+        }
+
+        private void put(Key key, String message) {
+            String previous = map.put(key, message);
+            if (previous != null) {
+                weight -= weight(key, previous);
+            }
+            weight += weight(key, message);
+            Iterator<Map.Entry<Key, String>> it = map.entrySet().iterator();
+            while ((map.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+                Map.Entry<Key, String> eldest = it.next();
+                weight -= weight(eldest.getKey(), eldest.getValue());
+                it.remove();
+            }
+        }
+
+        private static long weight(Key key, String message) {
+            long weight = message.length();
+            for (String replacement : key.replacements) {
+                if (replacement != null) {
+                    weight += replacement.length();
+                }
+            }
+            return weight;
+        }
+    }
+
+    private static class Key {
+        private final MessageTemplate template;
+        private final String[] replacements;
+        private final int hash;
+
+        private Key(MessageTemplate template, String[] replacements) {
+            this(template, replacements, 31 * System.identityHashCode(template) + Arrays.hashCode(replacements));
+        }
+
+        private Key(MessageTemplate template, String[] replacements, int hash) {
+            this.template = template;
+            this.replacements = replacements;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return template == key.template && hash == key.hash && Arrays.equals(replacements, key.replacements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
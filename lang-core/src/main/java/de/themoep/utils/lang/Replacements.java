@@ -0,0 +1,233 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Builder for placeholder values which keeps primitives as they are.
+ * Values are only converted to text when the rendered message actually contains their placeholder
+ * and are then written directly into the output. Values which are expensive to compute can be
+ * supplied lazily with {@link #with(String, Supplier)}.
+ * <p>
+ * Instances are not thread-safe and are meant to be created per message.
+ */
+public final class Replacements implements PlaceholderResolver {
+    private static final byte INT = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte BOOLEAN = 3;
+    private static final byte OBJECT = 4;
+    private static final byte SUPPLIER = 5;
+
+    private String[] names;
+    private byte[] types;
+    private long[] primitives;
+    private Object[] objects;
+    private int size = 0;
+
+    /**
+     * Create new, empty replacements
+     */
+    public Replacements() {
+        this(8);
+    }
+
+    /**
+     * Create new, empty replacements
+     * @param expectedSize  How many placeholders will likely be added
+     */
+    public Replacements(int expectedSize) {
+        int capacity = Math.max(expectedSize, 1);
+        names = new String[capacity];
+        types = new byte[capacity];
+        primitives = new long[capacity];
+    }
+
+    /**
+     * Create new, empty replacements
+     * @return The new replacements
+     */
+    public static Replacements create() {
+        return new Replacements();
+    }
+
+    /**
+     * Set the value of a placeholder
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, int value) {
+        setPrimitive(placeholder, INT, value);
+        return this;
+    }
+
+    /**
+     * Set the value of a placeholder
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, long value) {
+        setPrimitive(placeholder, LONG, value);
+        return this;
+    }
+
+    /**
+     * Set the value of a placeholder
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, double value) {
+        setPrimitive(placeholder, DOUBLE, Double.doubleToRawLongBits(value));
+        return this;
+    }
+
+    /**
+     * Set the value of a placeholder
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, boolean value) {
+        setPrimitive(placeholder, BOOLEAN, value ? 1 : 0);
+        return this;
+    }
+
+    /**
+     * Set the value of a placeholder. The value is converted with {@link String#valueOf(Object)} when it is used.
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, Object value) {
+        int slot = slot(placeholder, OBJECT);
+        if (objects == null) {
+            objects = new Object[names.length];
+        }
+        objects[slot] = value;
+        return this;
+    }
+
+    /**
+     * Set a lazily computed value of a placeholder. The supplier is only called if the message
+     * contains the placeholder and only once, even if the placeholder is used multiple times
+     * or the replacements are used to render multiple messages.
+     * The value is converted with {@link String#valueOf(Object)}.
+     * @param placeholder   The name of the placeholder (without prefix and suffix)
+     * @param value         The supplier of the value
+     * @return This replacements instance
+     */
+    public Replacements with(String placeholder, Supplier<?> value) {
+        with(placeholder, (Object) value);
+        if (value != null) {
+            types[indexOf(placeholder)] = SUPPLIER;
+        }
+        return this;
+    }
+
+    private void setPrimitive(String placeholder, byte type, long value) {
+        // The slot needs to be found first as it might grow the array
+        int slot = slot(placeholder, type);
+        primitives[slot] = value;
+    }
+
+    private int slot(String placeholder, byte type) {
+        if (placeholder == null) {
+            throw new IllegalArgumentException("Placeholder cannot be null!");
+        }
+        int slot = indexOf(placeholder);
+        if (slot < 0) {
+            if (size == names.length) {
+                int capacity = size * 2;
+                names = Arrays.copyOf(names, capacity);
+                types = Arrays.copyOf(types, capacity);
+                primitives = Arrays.copyOf(primitives, capacity);
+                if (objects != null) {
+                    objects = Arrays.copyOf(objects, capacity);
+                }
+            }
+            slot = size++;
+            names[slot] = placeholder;
+        } else if (objects != null) {
+            objects[slot] = null;
+        }
+        types[slot] = type;
+        return slot;
+    }
+
+    private int indexOf(String placeholder) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(placeholder)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean appendTo(StringBuilder out, String placeholder) {
+        int slot = indexOf(placeholder);
+        if (slot < 0) {
+            return false;
+        }
+        switch (types[slot]) {
+            case INT:
+                out.append((int) primitives[slot]);
+                break;
+            case LONG:
+                out.append(primitives[slot]);
+                break;
+            case DOUBLE:
+                out.append(Double.longBitsToDouble(primitives[slot]));
+                break;
+            case BOOLEAN:
+                out.append(primitives[slot] != 0);
+                break;
+            case SUPPLIER:
+                // Only computed once, the value is used for all further placeholders with the same name
+                objects[slot] = ((Supplier<?>) objects[slot]).get();
+                types[slot] = OBJECT;
+                appendObject(out, objects[slot]);
+                break;
+            default:
+                appendObject(out, objects[slot]);
+        }
+        return true;
+    }
+
+    private static void appendObject(StringBuilder out, Object value) {
+        if (value instanceof CharSequence) {
+            out.append((CharSequence) value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    /**
+     * Get the amount of placeholders that have a value
+     * @return The amount of placeholders
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,51 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LanguageConfigTest {
+
+    @Test
+    public void testMissingKeysCached() {
+        TestLanguageConfig de = new TestLanguageConfig("de", messages("own", "Eigen %player%"));
+        TestLanguageConfig en = new TestLanguageConfig("en", messages("english", "English %player%"));
+        de.setFallbacks(new LanguageConfig<?>[] {en});
+
+        assertSame(de.getTemplate("own"), de.getTemplate("own"));
+        assertSame(de.getTemplate("english"), de.getTemplate("english"));
+        assertSame(de.getLines("own"), de.getLines("own"));
+        assertSame(de.getTemplate("missing"), de.getTemplate("missing"));
+
+        // Once too many missing keys were requested new ones aren't cached anymore
+        for (int i = 0; i < 2000; i++) {
+            de.getTemplate("missing." + i);
+        }
+        assertSame(de.getTemplate("missing.0"), de.getTemplate("missing.0"));
+        assertEquals(de.getTemplate("missing.1999").getSource(), de.getTemplate("missing.1999").getSource());
+        assertNotSame(de.getTemplate("missing.1999"), de.getTemplate("missing.1999"));
+        assertNotSame(de.getLines("missing.1999"), de.getLines("missing.1999"));
+        assertSame(de.getTemplate("own"), de.getTemplate("own"));
+    }
+}
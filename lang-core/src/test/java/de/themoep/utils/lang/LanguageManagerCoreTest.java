@@ -0,0 +1,204 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LanguageManagerCoreTest {
+    private TestLanguageManager manager;
+    private final List<MessageChanges> events = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        manager = new TestLanguageManager(new TestLanguageConfig("de_at", messages("own", "Servus %player%")));
+        manager.files.put("en", messages("changed", "Old %player%", "same", "Same %player%", "english", "English %player%"));
+        manager.files.put("de", messages("changed", "Alt %player%", "same", "Gleich %player%", "removed", "Weg"));
+        manager.loadConfigs();
+        manager.addChangeListener(events::add);
+    }
+
+    @Test
+    public void testListener() {
+        manager.files.put("de", messages("changed", "Neu %player%", "same", "Gleich %player%", "added", "Da"));
+        manager.loadConfigs();
+
+        // The default locale didn't change so only the changes of the German one are reported
+        assertEquals(1, events.size());
+        MessageChanges changes = events.get(0);
+        assertEquals("de", changes.getLocale());
+        assertEquals(Collections.singleton("added"), changes.getAdded());
+        assertEquals(Collections.singleton("removed"), changes.getRemoved());
+        assertEquals(Collections.singleton("changed"), changes.getChanged());
+
+        manager.loadConfigs();
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void testReloadAsync() {
+        manager.files.put("en", messages("changed", "New %player%", "same", "Same %player%", "english", "English %player%"));
+        Map<String, MessageChanges> changes = manager.reloadAsync(Runnable::run).join();
+
+        assertEquals(new HashSet<>(Arrays.asList("de", "en")), changes.keySet());
+        assertTrue(changes.get("de").isEmpty());
+        assertEquals(Collections.singleton("changed"), changes.get("en").getChanged());
+        assertEquals(Collections.singletonList(changes.get("en")), events);
+        assertEquals("New Max", manager.getConfig("en").get("changed", "player", "Max"));
+    }
+
+    @Test
+    public void testTemplateReuse() {
+        LanguageConfig<Map<String, String>> en = manager.getConfig("en");
+        LanguageConfig<Map<String, String>> austrian = manager.getConfig("de_at");
+        assertEquals(Arrays.asList(manager.getConfig("de"), en), austrian.getFallbacks());
+        MessageTemplate english = en.getTemplate("same");
+        MessageTemplate own = austrian.getTemplate("own");
+        MessageTemplate changed = austrian.getTemplate("changed");
+        MessageTemplate same = austrian.getTemplate("same");
+        MessageTemplate fromDefault = austrian.getTemplate("english");
+
+        // Only the fallbacks are replaced as the Austrian config was added manually
+        manager.files.put("de", messages("changed", "Neu %player%", "same", "Gleich %player%", "removed", "Weg"));
+        manager.loadConfigs();
+        assertSame(austrian, manager.getConfig("de_at"));
+        assertNotSame(en, manager.getConfig("en"));
+        assertSame(english, manager.getConfig("en").getTemplate("same"));
+        assertSame(own, austrian.getTemplate("own"));
+        assertSame(same, austrian.getTemplate("same"));
+        assertSame(fromDefault, austrian.getTemplate("english"));
+        assertNotSame(changed, austrian.getTemplate("changed"));
+        assertEquals("Neu Max", austrian.get("changed", "player", "Max"));
+
+        // Fallbacks which were replaced by configs with the same messages keep all templates
+        changed = austrian.getTemplate("changed");
+        manager.loadConfigs();
+        assertSame(changed, austrian.getTemplate("changed"));
+        assertSame(same, austrian.getTemplate("same"));
+        assertSame(own, austrian.getTemplate("own"));
+    }
+
+    @Test
+    public void testLazyLoading() {
+        manager.setLazyLoading(true, 0, TimeUnit.SECONDS);
+        manager.loadConfigs();
+        assertFalse(manager.getConfigs().stream().anyMatch(c -> c.getLocale().equals("de")));
+        LanguageConfig<Map<String, String>> en = manager.getConfig("en");
+        MessageTemplate english = en.getTemplate("same");
+        assertTrue(events.isEmpty());
+
+        // Loading a stub keeps the caches of the other configs
+        assertEquals("Gleich Max", manager.getConfig("de").get("same", "player", "Max"));
+        assertSame(en, manager.getConfig("en"));
+        assertSame(english, en.getTemplate("same"));
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testLoadExecutorWaitingForLock() throws Exception {
+        ExecutorService loader = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch submitted = new CountDownLatch(1);
+            // Occupies the only thread of the executor until the configs are submitted and then needs the lock
+            loader.execute(() -> {
+                try {
+                    submitted.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                manager.evictIdleConfigs();
+            });
+            Executor executor = task -> {
+                submitted.countDown();
+                loader.execute(task);
+            };
+            manager.setLoadExecutor(executor);
+            manager.files.put("de", messages("changed", "Neu %player%"));
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> manager.loadConfigs());
+            assertEquals("Neu Max", manager.getConfig("de").get("changed", "player", "Max"));
+        } finally {
+            loader.shutdownNow();
+        }
+    }
+
+    private static List<String> locales(List<LanguageConfig<?>> configs) {
+        return configs.stream().map(LanguageConfig::getLocale).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testFallbackChain() {
+        TestLanguageManager manager = new TestLanguageManager(
+                new TestLanguageConfig("de_at", messages("shared", "AT shared")),
+                new TestLanguageConfig("de_de", messages("shared", "DE_DE shared", "german", "DE_DE german")));
+        manager.files.put("de", messages("german", "DE german", "both", "DE both"));
+        manager.files.put("en", messages("german", "EN german", "both", "EN both", "english", "EN"));
+        manager.loadConfigs();
+
+        LanguageConfig<Map<String, String>> at = manager.getConfig("de_at");
+        assertEquals(Arrays.asList("de_de", "de", "en"), locales(at.getFallbacks()));
+        assertEquals(Arrays.asList("de", "en"), locales(manager.getConfig("de_de").getFallbacks()));
+        // The language falls back to its main country too
+        assertEquals(Arrays.asList("de_de", "en"), locales(manager.getConfig("de").getFallbacks()));
+        assertEquals(Collections.emptyList(), locales(manager.getConfig("en").getFallbacks()));
+
+        assertEquals("AT shared", at.get("shared"));
+        assertEquals("DE_DE german", at.get("german"));
+        assertEquals("DE both", at.get("both"));
+        assertEquals("EN", at.get("english"));
+        assertEquals("Missing language key added for locale de_at", at.get("added"));
+
+        // Reloading a fallback replaces it in the chain and the messages taken from it
+        manager.files.put("de", messages("german", "DE german", "both", "DE new", "added", "DE added"));
+        manager.loadConfigs();
+        assertSame(at, manager.getConfig("de_at"));
+        assertSame(manager.getConfig("de"), at.getFallbacks().get(1));
+        assertEquals(Arrays.asList("de_de", "de", "en"), locales(at.getFallbacks()));
+        assertEquals("DE new", at.get("both"));
+        assertEquals("DE added", at.get("added"));
+        assertEquals("DE_DE german", at.get("german"));
+
+        // Keys removed from a fallback are taken from the next one in the chain
+        manager.files.put("de", messages("german", "DE german"));
+        manager.loadConfigs();
+        assertEquals("EN both", at.get("both"));
+        assertEquals("Missing language key added for locale de_at", at.get("added"));
+    }
+}
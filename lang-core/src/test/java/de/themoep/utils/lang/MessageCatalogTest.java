@@ -0,0 +1,155 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageCatalogTest {
+    private static final byte[] RESOURCE = "greeting: Hello %player%!".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FILE = "greeting: Gr\u00fc\u00df dich %player%!".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path folder;
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new HashMap<>();
+        defaults.put("greeting", "Hello %player%!");
+        defaults.put("farewell", "Bye %player%, see you %when%");
+        defaults.put("section", null);
+        return defaults;
+    }
+
+    private static MessageTable messageTable() {
+        Map<String, String> messages = new HashMap<>();
+        messages.put("greeting", "Gr\u00fc\u00df dich %player%! \u2764");
+        messages.put("plain", "No placeholders");
+        return MessageTable.of(messages, defaults());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Path file = folder.resolve("lang.de.catalog");
+        byte[] hash = MessageCatalog.hash(RESOURCE, FILE);
+        MessageTable messages = messageTable();
+        MessageCatalog.write(file, hash, "%", "%", defaults(), messages);
+
+        MessageCatalog catalog = MessageCatalog.read(file, hash, "%", "%");
+        assertNotNull(catalog);
+        assertEquals(defaults(), catalog.getDefaultMessages());
+        assertEquals(messages.asMap(), catalog.getMessages().asMap());
+        for (String key : messages.asMap().keySet()) {
+            assertEquals(messages.isDefault(key), catalog.getMessages().isDefault(key), key);
+        }
+        assertTrue(catalog.getMessages().isDefault("farewell"));
+        assertFalse(catalog.getMessages().isDefault("greeting"));
+        assertNull(catalog.getMessages().get("section"));
+        assertTrue(catalog.getMessages().contains("section", true));
+
+        // Only messages with placeholders are stored as templates
+        assertEquals(2, catalog.getTemplates().size());
+        MessageTemplate template = catalog.getTemplates().get("farewell");
+        MessageTemplate compiled = MessageTemplate.compile("Bye %player%, see you %when%", "%", "%");
+        assertArrayEquals(compiled.getPlaceholders(), template.getPlaceholders());
+        assertArrayEquals(compiled.getStarts(), template.getStarts());
+        assertArrayEquals(compiled.getEnds(), template.getEnds());
+        assertEquals("Gr\u00fc\u00df dich Max! \u2764", catalog.getTemplates().get("greeting").render("player", "Max"));
+        assertEquals("Bye Max, see you soon", template.render("player", "Max", "when", "soon"));
+    }
+
+    @Test
+    public void testOutdatedHash() throws Exception {
+        Path file = folder.resolve("lang.de.catalog");
+        MessageCatalog.write(file, MessageCatalog.hash(RESOURCE, FILE), "%", "%", defaults(), messageTable());
+
+        assertNull(MessageCatalog.read(file, MessageCatalog.hash(RESOURCE, null), "%", "%"));
+        assertNull(MessageCatalog.read(file, MessageCatalog.hash(null, FILE), "%", "%"));
+        assertNull(MessageCatalog.read(folder.resolve("missing.catalog"), MessageCatalog.hash(RESOURCE, FILE), "%", "%"));
+    }
+
+    @Test
+    public void testOtherPlaceholders() throws Exception {
+        Path file = folder.resolve("lang.de.catalog");
+        byte[] hash = MessageCatalog.hash(RESOURCE, FILE);
+        MessageCatalog.write(file, hash, "%", "%", defaults(), messageTable());
+
+        // Templates of other placeholder delimiters can't be used but the messages can
+        MessageCatalog catalog = MessageCatalog.read(file, hash, "{", "}");
+        assertNotNull(catalog);
+        assertTrue(catalog.getTemplates().isEmpty());
+        assertEquals(messageTable().asMap(), catalog.getMessages().asMap());
+    }
+
+    @Test
+    public void testCorrupt() throws Exception {
+        Path file = folder.resolve("lang.de.catalog");
+        byte[] hash = MessageCatalog.hash(RESOURCE, FILE);
+        MessageCatalog.write(file, hash, "%", "%", defaults(), messageTable());
+
+        byte[] content = Files.readAllBytes(file);
+        byte[] truncated = new byte[content.length / 2];
+        System.arraycopy(content, 0, truncated, 0, truncated.length);
+        Files.write(file, truncated);
+        assertNull(MessageCatalog.read(file, hash, "%", "%"));
+    }
+
+    @Test
+    public void testLoadedByManager() {
+        createManager();
+        TestLanguageManager manager = createManager();
+
+        for (String locale : new String[] {"en", "de", "de_at"}) {
+            TestLanguageConfig config = (TestLanguageConfig) manager.getConfig(locale);
+            assertTrue(config.fromCatalog, locale);
+            // The templates of the catalog are kept when the manager sets the fallbacks
+            Map<String, MessageTemplate> templates = config.getCachedTemplates();
+            assertTrue(templates.containsKey("greeting"), locale);
+            assertSame(templates.get("greeting"), config.getTemplate("greeting"), locale);
+        }
+        LanguageConfig<Map<String, String>> austrian = manager.getConfig("de_at");
+        assertEquals(2, austrian.getFallbacks().size());
+        assertEquals("Servus Max!", austrian.get("greeting", "player", "Max"));
+        assertEquals("Bye Max", austrian.get("farewell", "player", "Max"));
+    }
+
+    private TestLanguageManager createManager() {
+        TestLanguageManager manager = new TestLanguageManager(folder.toFile(), true, new TestLanguageConfig(
+                new File(folder.toFile(), "lang.de_at.yml"), "de_at", messages("greeting", "Servus %player%!"), true));
+        manager.files.put("en", messages("greeting", "Hello %player%!", "farewell", "Bye %player%"));
+        manager.files.put("de", messages("greeting", "Hallo %player%!"));
+        manager.loadConfigs();
+        return manager;
+    }
+}
@@ -0,0 +1,83 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageChangesTest {
+
+    private static MessageTable table(String... entries) {
+        Map<String, String> messages = new HashMap<>();
+        for (int i = 0; i + 1 < entries.length; i += 2) {
+            messages.put(entries[i], entries[i + 1]);
+        }
+        return MessageTable.of(messages, Collections.emptyMap());
+    }
+
+    @Test
+    public void testCompare() {
+        MessageTable previous = table("same", "Same", "changed", "Old", "removed", "Gone", "section", null);
+        MessageTable current = table("same", "Same", "changed", "New", "added", "New key", "section", "Now a message");
+
+        MessageChanges changes = MessageChanges.compare("de", previous, current);
+        assertEquals("de", changes.getLocale());
+        assertEquals(Collections.singleton("added"), changes.getAdded());
+        assertEquals(Collections.singleton("removed"), changes.getRemoved());
+        assertEquals(new HashSet<>(Arrays.asList("changed", "section")), changes.getChanged());
+        assertEquals(new HashSet<>(Arrays.asList("added", "removed", "changed", "section")), changes.getKeys());
+        assertFalse(changes.isEmpty());
+    }
+
+    @Test
+    public void testNewLocale() {
+        MessageChanges changes = MessageChanges.compare("de", MessageTable.EMPTY, table("a", "A", "b", "B"));
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), changes.getAdded());
+        assertTrue(changes.getRemoved().isEmpty());
+        assertTrue(changes.getChanged().isEmpty());
+    }
+
+    @Test
+    public void testUnchanged() {
+        MessageChanges changes = MessageChanges.compare("de", table("a", "A", "b", null), table("a", "A", "b", null));
+
+        assertTrue(changes.isEmpty());
+        assertTrue(changes.getKeys().isEmpty());
+    }
+
+    @Test
+    public void testImmutable() {
+        MessageChanges changes = MessageChanges.compare("de", table("a", "A"), table("a", "B", "b", "B"));
+
+        assertThrows(UnsupportedOperationException.class, () -> changes.getAdded().clear());
+        assertThrows(UnsupportedOperationException.class, () -> changes.getChanged().clear());
+        assertThrows(UnsupportedOperationException.class, () -> changes.getKeys().clear());
+    }
+}
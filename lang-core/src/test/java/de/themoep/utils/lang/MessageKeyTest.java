@@ -0,0 +1,94 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageKeyTest {
+
+    @Test
+    public void testHandles() {
+        MessageKey key = MessageKey.of("test.handles");
+        assertSame(key, MessageKey.of("test.handles"));
+        assertEquals("test.handles", key.getKey());
+        MessageKey other = MessageKey.of("test.handles.other");
+        assertNotEquals(key.getOrdinal(), other.getOrdinal());
+        assertTrue(other.getOrdinal() < MessageKey.count());
+        assertThrows(IllegalArgumentException.class, () -> MessageKey.of(null));
+    }
+
+    @Test
+    public void testLookupsAfterReload() {
+        TestLanguageManager manager = new TestLanguageManager(new TestLanguageConfig("de_at", messages("own", "Servus %player%")));
+        manager.files.put("en", messages("changed", "Old %player%", "same", "Same %player%"));
+        manager.files.put("de", messages("changed", "Alt %player%"));
+        manager.loadConfigs();
+        MessageKey changed = MessageKey.of("changed");
+        MessageKey same = MessageKey.of("same");
+
+        LanguageConfig<Map<String, String>> en = manager.getConfig("en");
+        LanguageConfig<Map<String, String>> at = manager.getConfig("de_at");
+        assertEquals("Old Max", manager.get(null, changed, "player", "Max"));
+        assertEquals("Alt Max", at.get(changed, "player", "Max"));
+        assertEquals("Same Max", at.get(same, "player", "Max"));
+        MessageTemplate sameTemplate = en.getTemplate(same);
+        assertSame(sameTemplate, en.getTemplate(same));
+        assertSame(en.getTemplate("same"), en.getTemplate(same));
+
+        manager.files.put("en", messages("changed", "New %player%", "same", "Same %player%"));
+        manager.files.put("de", messages("changed", "Neu %player%"));
+        manager.loadConfigs();
+        LanguageConfig<Map<String, String>> reloaded = manager.getConfig("en");
+        assertNotSame(en, reloaded);
+        assertEquals("New Max", manager.get(null, changed, "player", "Max"));
+        assertSame(reloaded.getTemplate("changed"), reloaded.getTemplate(changed));
+        // Templates of unchanged messages are reused
+        assertSame(sameTemplate, reloaded.getTemplate(same));
+        // Configs which fall back to the reloaded ones don't keep the old messages
+        assertEquals("Neu Max", at.get(changed, "player", "Max"));
+        assertEquals("Same Max", at.get(same, "player", "Max"));
+
+        manager.setPlaceholderPrefix("{");
+        manager.setPlaceholderSuffix("}");
+        assertEquals("New %player%", reloaded.get(changed, "player", "Max"));
+    }
+
+    @Test
+    public void testHandlesCreatedLater() {
+        TestLanguageConfig config = new TestLanguageConfig("en", messages("test.created.later", "Later %player%"));
+        assertEquals("Missing language key test.first for locale en", config.get(MessageKey.of("test.first")));
+        // Handles with ordinals beyond the size of the template array
+        for (int i = 0; i < 100; i++) {
+            MessageKey.of("test.later." + i);
+        }
+        MessageKey later = MessageKey.of("test.created.later");
+        assertEquals("Later Max", config.get(later, "player", "Max"));
+        assertSame(config.getTemplate(later), config.getTemplate(later));
+    }
+}
@@ -0,0 +1,110 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MessageTemplateTest {
+
+    /**
+     * Replace the placeholders one after another like the messages were replaced before they were compiled
+     */
+    private static String replace(String message, String prefix, String suffix, String... replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            message = message.replace(prefix + replacements[i] + suffix, String.valueOf(replacements[i + 1]));
+        }
+        return message;
+    }
+
+    private static void assertRendered(String expected, String message, String... replacements) throws Exception {
+        assertRenderedWith(expected, message, "%", "%", replacements);
+    }
+
+    private static void assertRenderedWith(String expected, String message, String prefix, String suffix, String... replacements) throws Exception {
+        assertEquals(expected, replace(message, prefix, suffix, replacements), "replaced one after another");
+        MessageTemplate template = MessageTemplate.compile(message, prefix, suffix);
+        assertEquals(expected, template.render(replacements));
+        assertEquals(expected, template.render(new StringWriter(), replacements).toString());
+
+        Replacements resolver = Replacements.create();
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            resolver.with(replacements[i], replacements[i + 1]);
+        }
+        // Values of a resolver are never replaced again so only compare it if there is nothing to chain
+        if (!String.join("", replacements).contains(prefix)) {
+            assertEquals(expected, template.render(resolver));
+            assertEquals(expected, template.render(new StringWriter(), resolver).toString());
+        }
+    }
+
+    @Test
+    public void testPlaceholders() throws Exception {
+        assertRendered("Hello Max!", "Hello %player%!", "player", "Max");
+        assertRendered("Max and Max", "%player% and %player%", "player", "Max");
+        assertRendered("Max has 5 coins", "%player% has %amount% coins", "player", "Max", "amount", "5");
+        assertRendered("MaxMoritz", "%a%%b%", "a", "Max", "b", "Moritz");
+        assertRenderedWith("Max has 5", "{player} has {amount}", "{", "}", "player", "Max", "amount", "5");
+        assertRenderedWith("Max has 5", "<<player>> has <<amount>>", "<<", ">>", "player", "Max", "amount", "5");
+        assertRendered("Value null", "Value %value%", "value", null);
+    }
+
+    @Test
+    public void testUnknownPlaceholders() throws Exception {
+        assertRendered("Hello %player%!", "Hello %player%!");
+        assertRendered("Hello %player%!", "Hello %player%!", "other", "Max");
+        assertRendered("100% sure", "100% sure", "player", "Max");
+        assertRendered("%% and %", "%% and %", "player", "Max");
+    }
+
+    @Test
+    public void testTextBetweenDelimiters() throws Exception {
+        assertRendered("Use 50% of Max", "Use 50% of %player name%", "player name", "Max");
+        assertRendered("Max got 5% more and 10% less", "%player% got 5% more and 10% less", "player", "Max");
+        assertRendered("5%/Max", "5%/%player%", "player", "Max");
+        assertRendered("100% of Max", "100% of %player%", "player", "Max");
+        assertRenderedWith("Max: 5% {x}", "{player}: 5% {x}", "{", "}", "player", "Max");
+    }
+
+    @Test
+    public void testChainedReplacements() throws Exception {
+        assertRendered("Max", "%a%", "a", "%b%", "b", "Max");
+        assertRendered("Hi Max and Max", "Hi %a% and %b%", "a", "%b%", "b", "Max");
+        // Earlier replacements don't apply to values of later ones
+        assertRendered("%a%", "%b%", "a", "Max", "b", "%a%");
+    }
+
+    @Test
+    public void testPossiblePlaceholders() {
+        assertArrayEquals(new String[] {"/", "player"}, MessageTemplate.compile("5%/%player%", "%", "%").getPlaceholders());
+        assertArrayEquals(new String[] {" of ", "player name"}, MessageTemplate.compile("50% of %player name%", "%", "%").getPlaceholders());
+        assertTrue(MessageTemplate.compile("5%/%player%", "%", "%").hasPlaceholder("player"));
+
+        MessageTemplate plain = MessageTemplate.compile("100% sure", "%", "%");
+        assertFalse(plain.hasPlaceholders());
+        assertSame(plain.getSource(), plain.render("player", "Max"));
+    }
+}
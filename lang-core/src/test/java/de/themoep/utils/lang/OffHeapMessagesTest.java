@@ -0,0 +1,106 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapMessagesTest {
+
+    private static Map<String, String> messages() {
+        Map<String, String> messages = new HashMap<>();
+        messages.put("greeting", "Hello %player%!");
+        messages.put("umlauts", "Gr\u00fc\u00dfe aus K\u00f6ln");
+        messages.put("emoji", "\u2764 \ud83d\ude00");
+        messages.put("empty", "");
+        messages.put("section", null);
+        for (int i = 0; i < 100; i++) {
+            messages.put("generated." + i, "Message " + i);
+        }
+        return messages;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Map<String, String> messages = messages();
+        OffHeapMessages offHeap = new OffHeapMessages(messages);
+
+        assertEquals(messages.size(), offHeap.size());
+        for (Map.Entry<String, String> entry : messages.entrySet()) {
+            assertTrue(offHeap.containsKey(entry.getKey()), entry.getKey());
+            assertEquals(entry.getValue(), offHeap.get(entry.getKey()), entry.getKey());
+        }
+        assertEquals(messages, offHeap);
+        assertEquals(messages.entrySet(), offHeap.entrySet());
+        assertEquals(messages.hashCode(), offHeap.hashCode());
+    }
+
+    @Test
+    public void testMissingKeys() {
+        OffHeapMessages offHeap = new OffHeapMessages(messages());
+
+        assertTrue(offHeap.containsKey("section"));
+        assertNull(offHeap.get("section"));
+        assertFalse(offHeap.containsKey("missing"));
+        assertNull(offHeap.get("missing"));
+        assertFalse(offHeap.containsKey(null));
+        assertNull(offHeap.get(null));
+    }
+
+    @Test
+    public void testEmpty() {
+        OffHeapMessages offHeap = new OffHeapMessages(Collections.emptyMap());
+
+        assertTrue(offHeap.isEmpty());
+        assertFalse(offHeap.entrySet().iterator().hasNext());
+        assertNull(offHeap.get("greeting"));
+    }
+
+    @Test
+    public void testImmutable() {
+        OffHeapMessages offHeap = new OffHeapMessages(messages());
+
+        assertThrows(UnsupportedOperationException.class, () -> offHeap.put("greeting", "Hi"));
+        assertThrows(UnsupportedOperationException.class, () -> offHeap.remove("greeting"));
+        assertThrows(UnsupportedOperationException.class, () -> offHeap.entrySet().iterator().remove());
+    }
+
+    @Test
+    public void testStorage() {
+        Map<String, String> messages = messages();
+        Map<String, String> stored = MessageTable.toStorage(messages);
+
+        assertEquals(messages, stored);
+        assertThrows(UnsupportedOperationException.class, () -> stored.put("greeting", "Hi"));
+        assertThrows(UnsupportedOperationException.class, () -> MessageTable.toStorage(new HashMap<>()).put("greeting", "Hi"));
+
+        OffHeapMessages offHeap = new OffHeapMessages(messages);
+        assertSame(offHeap, MessageTable.toStorage(offHeap));
+    }
+}
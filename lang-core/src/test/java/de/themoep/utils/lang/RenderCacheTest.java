@@ -0,0 +1,132 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RenderCacheTest {
+    private final MessageTemplate template = MessageTemplate.compile("Hello %player%!", "%", "%");
+
+    /**
+     * Find player names whose messages end up in the same segment of the cache
+     */
+    private List<String> sameSegment(int amount) {
+        List<String> names = new ArrayList<>();
+        int segment = -1;
+        for (int i = 0; names.size() < amount; i++) {
+            String name = "player" + i;
+            int hash = 31 * System.identityHashCode(template) + Arrays.hashCode(new String[] {"player", name});
+            int index = (hash ^ (hash >>> 16)) & 15;
+            if (segment < 0) {
+                segment = index;
+            }
+            if (index == segment) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        RenderCache cache = new RenderCache(100, 10000);
+        assertEquals("Hello Max!", cache.get(template, "player", "Max"));
+        String cached = cache.get(template, "player", "Max");
+        assertEquals("Hello Max!", cached);
+        assertSame(cached, cache.get(template, "player", "Max"));
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // Messages without placeholders aren't cached
+        MessageTemplate plain = MessageTemplate.compile("Hello!", "%", "%");
+        assertEquals("Hello!", cache.get(plain, "player", "Max"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        // Two messages per segment
+        RenderCache cache = new RenderCache(32, 10000);
+        List<String> names = sameSegment(3);
+        cache.get(template, "player", names.get(0));
+        cache.get(template, "player", names.get(1));
+        // Used again so the second one is the least recently used now
+        cache.get(template, "player", names.get(0));
+        cache.get(template, "player", names.get(2));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHits());
+
+        cache.get(template, "player", names.get(0));
+        assertEquals(2, cache.getHits());
+        cache.get(template, "player", names.get(1));
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    public void testWeightEviction() {
+        // Each segment can hold one message with its replacements but not two
+        RenderCache cache = new RenderCache(1000, 16 * 40);
+        List<String> names = sameSegment(2);
+        cache.get(template, "player", names.get(0));
+        cache.get(template, "player", names.get(1));
+        assertEquals(1, cache.size());
+        cache.get(template, "player", names.get(1));
+        assertEquals(1, cache.getHits());
+
+        for (int i = 0; i < 1000; i++) {
+            cache.get(template, "player", "p" + i);
+        }
+        assertTrue(cache.size() <= 16 * 2, "size " + cache.size());
+    }
+
+    @Test
+    public void testReplacedTemplatesRemoved() {
+        TestLanguageManager manager = new TestLanguageManager();
+        manager.files.put("en", messages("changed", "Old %player%", "same", "Same %player%"));
+        manager.loadConfigs();
+        manager.setRenderCacheSize(100, 10000);
+        RenderCache cache = manager.getRenderCache();
+
+        assertEquals("Old Max", manager.get(null, "changed", "player", "Max"));
+        assertEquals("Same Max", manager.get(null, "same", "player", "Max"));
+        assertEquals(2, cache.size());
+
+        manager.files.put("en", messages("changed", "New %player%", "same", "Same %player%"));
+        manager.loadConfigs();
+        // Only the message of the changed key was removed
+        assertEquals(1, cache.size());
+        assertEquals("New Max", manager.get(null, "changed", "player", "Max"));
+        assertEquals("Same Max", manager.get(null, "same", "player", "Max"));
+        assertEquals(1, cache.getHits());
+
+        manager.setPlaceholderPrefix("{");
+        assertEquals(0, cache.size());
+        assertEquals("Same %player%", manager.get(null, "same", "player", "Max"));
+    }
+}
@@ -0,0 +1,129 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static de.themoep.utils.lang.TestLanguageManager.messages;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReplacementsTest {
+    private final MessageTemplate template = MessageTemplate.compile("%value% (%value%)", "%", "%");
+
+    private String render(Replacements replacements) {
+        return template.render(replacements);
+    }
+
+    @Test
+    public void testPrimitives() {
+        int[] ints = {0, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int value : ints) {
+            assertEquals(value + " (" + value + ")", render(Replacements.create().with("value", value)));
+        }
+        long[] longs = {0L, -1L, 1L << 40, Long.MIN_VALUE, Long.MAX_VALUE};
+        for (long value : longs) {
+            assertEquals(value + " (" + value + ")", render(Replacements.create().with("value", value)));
+        }
+        double[] doubles = {0.0, -0.0, 1.5, 1e20, 1e-7, Double.NaN, Double.NEGATIVE_INFINITY, Double.MIN_VALUE};
+        for (double value : doubles) {
+            assertEquals(value + " (" + value + ")", render(Replacements.create().with("value", value)));
+        }
+        assertEquals("true (true)", render(Replacements.create().with("value", true)));
+        assertEquals("false (false)", render(Replacements.create().with("value", false)));
+    }
+
+    @Test
+    public void testObjects() {
+        assertEquals("Max (Max)", render(Replacements.create().with("value", "Max")));
+        assertEquals("Max (Max)", render(Replacements.create().with("value", new StringBuilder("Max"))));
+        assertEquals("null (null)", render(Replacements.create().with("value", (Object) null)));
+        assertEquals("[1, 2] ([1, 2])", render(Replacements.create().with("value", Arrays.asList(1, 2))));
+        assertEquals("5 (5)", render(Replacements.create().with("value", Integer.valueOf(5))));
+    }
+
+    @Test
+    public void testReplacedValue() {
+        Replacements replacements = Replacements.create().with("value", 5).with("value", "five");
+        assertEquals("five (five)", render(replacements));
+        assertEquals(1, replacements.size());
+        replacements.with("value", 2.5);
+        assertEquals("2.5 (2.5)", render(replacements));
+        assertEquals(1, replacements.size());
+    }
+
+    @Test
+    public void testManyPlaceholders() {
+        Replacements replacements = new Replacements(1);
+        StringBuilder message = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            message.append("%p").append(i).append("% ");
+            expected.append(i * 1000L).append(' ');
+            replacements.with("p" + i, i * 1000L);
+        }
+        assertEquals(20, replacements.size());
+        assertEquals(expected.toString(), MessageTemplate.compile(message.toString(), "%", "%").render(replacements));
+    }
+
+    @Test
+    public void testUnknownPlaceholders() {
+        Replacements replacements = Replacements.create().with("other", 1);
+        assertEquals("%value% (%value%)", render(replacements));
+        assertThrows(IllegalArgumentException.class, () -> replacements.with(null, 1));
+    }
+
+    @Test
+    public void testSuppliersOnlyCalledWhenUsed() {
+        AtomicInteger used = new AtomicInteger();
+        AtomicInteger unused = new AtomicInteger();
+        Replacements replacements = Replacements.create()
+                .with("value", () -> "Max" + used.incrementAndGet())
+                .with("unused", () -> "Moritz" + unused.incrementAndGet());
+
+        // Only called once even if the placeholder is used multiple times and in multiple messages
+        assertEquals("Max1 (Max1)", render(replacements));
+        assertEquals("Max1 (Max1)", render(replacements));
+        assertEquals(1, used.get());
+        assertEquals("No placeholders", MessageTemplate.compile("No placeholders", "%", "%").render(replacements));
+        assertEquals("5% of %player%", MessageTemplate.compile("5% of %player%", "%", "%").render(replacements));
+        assertEquals(0, unused.get());
+    }
+
+    @Test
+    public void testSuppliersOfLines() {
+        AtomicInteger calls = new AtomicInteger();
+        Replacements replacements = Replacements.create().with("player", () -> "Max" + calls.incrementAndGet());
+        TestLanguageConfig config = new TestLanguageConfig("en", messages("lines", "Hello %player%\nBye %player%", "other", "%other%"));
+        assertEquals(Arrays.asList("Hello Max1", "Bye Max1"), config.getLines("lines", replacements));
+        assertEquals("%other%", config.get("other", replacements));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testSupplierValues() {
+        assertEquals("null (null)", render(Replacements.create().with("value", () -> null)));
+        assertEquals("5 (5)", render(Replacements.create().with("value", () -> 5)));
+        assertEquals("null (null)", render(Replacements.create().with("value", (Supplier<?>) null)));
+    }
+}
@@ -0,0 +1,100 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A config of messages from a map, optionally loaded from and compiled into a catalog
+ */
+class TestLanguageConfig extends LanguageConfig<Map<String, String>> {
+    private final boolean catalogs;
+    /** Whether or not the messages were loaded from the catalog */
+    final boolean fromCatalog;
+
+    TestLanguageConfig(String locale, Map<String, String> messages) {
+        this(new File("lang." + locale + ".yml"), locale, messages, false);
+    }
+
+    TestLanguageConfig(File file, String locale, Map<String, String> messages, boolean catalogs) {
+        super("languages", file, locale, false);
+        this.catalogs = catalogs;
+        config = messages;
+        byte[] content = new TreeMap<>(messages).toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            fromCatalog = loadCatalog(content);
+            if (!fromCatalog) {
+                setMessages(messages);
+                saveCatalog(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected boolean useCatalogs() {
+        return catalogs;
+    }
+
+    @Override
+    public void loadConfig() {}
+
+    @Override
+    protected Map<String, String> parse(byte[] content, Map<String, String> defaults) {
+        throw new UnsupportedOperationException("Test configs are created from their messages");
+    }
+
+    @Override
+    protected Map<String, String> flatten(Map<String, String> config) {
+        return new HashMap<>(config);
+    }
+
+    @Override
+    public boolean saveConfigResource() {
+        return false;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return contains(key, false);
+    }
+
+    @Override
+    public boolean contains(String key, boolean checkDefault) {
+        return getMessages().contains(key, checkDefault);
+    }
+
+    @Override
+    public String get(String key) {
+        String message = getMessages().get(key);
+        return message != null ? message : getFallbackOrMissing(key);
+    }
+
+    @Override
+    public Map<String, String> getRawConfig() {
+        return config;
+    }
+}
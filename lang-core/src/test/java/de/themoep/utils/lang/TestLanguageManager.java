@@ -0,0 +1,66 @@
+package de.themoep.utils.lang;
+
+/*
+ * lang - lang-core
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * A manager of {@link TestLanguageConfig}s whose language files are kept in memory.
+ * The bundled locales are listed in the index of the test resources.
+ */
+class TestLanguageManager extends LanguageManagerCore<Object, Map<String, String>> {
+    static final LangLogger LOGGER = new LangLogger() {
+        @Override
+        public void log(Level level, String message) {}
+
+        @Override
+        public void log(Level level, String message, Throwable e) {}
+    };
+
+    /** The content of the language files by their locale */
+    final Map<String, Map<String, String>> files = new ConcurrentHashMap<>();
+    private final boolean catalogs;
+
+    TestLanguageManager(TestLanguageConfig... configs) {
+        this(new File("languages"), false, configs);
+    }
+
+    TestLanguageManager(File folder, boolean catalogs, TestLanguageConfig... configs) {
+        super("en", "languages", folder, sender -> null, "lang.", ".yml", false, configs);
+        this.catalogs = catalogs;
+    }
+
+    @Override
+    public void loadConfigs() {
+        loadConfigs(TestLanguageManager.class, LOGGER, locale -> new TestLanguageConfig(
+                new File(getFolder(), filePrefix + locale + fileSuffix), locale, files.get(locale), catalogs));
+    }
+
+    static Map<String, String> messages(String... entries) {
+        Map<String, String> messages = new HashMap<>();
+        for (int i = 0; i + 1 < entries.length; i += 2) {
+            messages.put(entries[i], entries[i + 1]);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,89 @@
+package de.themoep.utils.lang.processor;
+
+/*
+ * lang - lang-processor
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Reads language files into flat maps of keys to messages the same way the platform configs do
+ */
+final class LanguageFiles {
+
+    private LanguageFiles() {}
+
+    /**
+     * Read the messages of a language file
+     * @param file  The file to read, files ending with <code>.properties</code> are read as properties, everything else as YAML
+     * @return A map of all keys with a message to their message in the order they appear in, properties are sorted by key
+     * @throws IOException If the file couldn't be read
+     */
+    static Map<String, String> read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            if (file.getFileName().toString().endsWith(".properties")) {
+                Properties properties = new Properties();
+                properties.load(in);
+                Map<String, String> messages = new TreeMap<>();
+                for (String key : properties.stringPropertyNames()) {
+                    messages.put(key, properties.getProperty(key));
+                }
+                return messages;
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                Object root = new Yaml().load(reader);
+                Map<String, String> messages = new LinkedHashMap<>();
+                if (root instanceof Map) {
+                    flatten(messages, "", (Map<?, ?>) root);
+                }
+                return messages;
+            }
+        }
+    }
+
+    private static void flatten(Map<String, String> messages, String prefix, Map<?, ?> section) {
+        for (Map.Entry<?, ?> entry : section.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                flatten(messages, key + ".", (Map<?, ?>) value);
+            } else if (value instanceof List) {
+                List<String> lines = new ArrayList<>();
+                for (Object line : (List<?>) value) {
+                    lines.add(String.valueOf(line));
+                }
+                messages.put(key, String.join("\n", lines));
+            } else if (value != null) {
+                messages.put(key, String.valueOf(value));
+            }
+        }
+    }
+}
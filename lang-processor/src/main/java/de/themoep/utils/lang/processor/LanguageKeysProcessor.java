@@ -0,0 +1,401 @@
+package de.themoep.utils.lang.processor;
+
+/*
+ * lang - lang-processor
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import de.themoep.utils.lang.LanguageKeys;
+import de.themoep.utils.lang.LanguageManagerCore;
+import de.themoep.utils.lang.MessageTemplate;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the key classes of types annotated with {@link LanguageKeys}.
+ * The language files are read from the compiled resources (or the source path) so the resources
+ * need to be processed before the sources are compiled, which is the default in Maven and Gradle.
+ */
+@SupportedAnnotationTypes("de.themoep.utils.lang.LanguageKeys")
+public class LanguageKeysProcessor extends AbstractProcessor {
+    /** How many missing keys of a translation are listed in the warning */
+    private static final int MAX_LISTED_KEYS = 10;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(LanguageKeys.class)) {
+            try {
+                generate((TypeElement) element, element.getAnnotation(LanguageKeys.class));
+            } catch (IOException e) {
+                error(element, "Unable to generate language keys: " + e.getMessage());
+            } catch (NoClassDefFoundError e) {
+                error(element, "Unable to read the language files, add SnakeYAML to the annotation processor path to read YAML files! (" + e.getMessage() + ")");
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement element, LanguageKeys settings) throws IOException {
+        String defaultFile = settings.filePrefix() + settings.defaultLocale() + settings.fileSuffix();
+        Path folder = findResourceFolder(settings.resourceFolder(), defaultFile);
+        if (folder == null) {
+            error(element, "Could not find language file " + resourcePath(settings.resourceFolder(), defaultFile)
+                    + " in the resources! Make sure the resources are processed before compiling.");
+            return;
+        }
+
+        Map<String, String> defaults = LanguageFiles.read(folder.resolve(defaultFile));
+        Map<String, Set<String>> placeholders = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : defaults.entrySet()) {
+            placeholders.put(entry.getKey(), getPlaceholders(entry.getValue(), settings));
+        }
+
+        List<String> fileNames = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(settings.filePrefix()) && fileName.endsWith(settings.fileSuffix())) {
+                    fileNames.add(fileName);
+                    if (!fileName.equals(defaultFile)) {
+                        String locale = fileName.substring(settings.filePrefix().length(), fileName.length() - settings.fileSuffix().length());
+                        checkTranslation(element, settings, locale, LanguageFiles.read(file), placeholders);
+                    }
+                }
+            }
+        }
+        writeIndex(element, settings.resourceFolder(), fileNames);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        String className = settings.value();
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        String source = generateSource(element, packageName, className, defaults, placeholders);
+        if (source != null) {
+            try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, element).openWriter()) {
+                writer.write(source);
+            }
+        }
+    }
+
+    /**
+     * Write the index of all language files so that the manager doesn't need to open the jar to find them
+     * @see LanguageManagerCore#INDEX_FILE
+     */
+    private void writeIndex(Element element, String resourceFolder, List<String> fileNames) throws IOException {
+        Collections.sort(fileNames);
+        FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                resourcePath(resourceFolder, LanguageManagerCore.INDEX_FILE), element);
+        try (Writer writer = index.openWriter()) {
+            writer.write("# Language files, generated by the lang-processor\n");
+            for (String fileName : fileNames) {
+                writer.write(fileName);
+                writer.write("\n");
+            }
+        }
+    }
+
+    private Path findResourceFolder(String resourceFolder, String defaultFile) {
+        for (StandardLocation location : Arrays.asList(StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH)) {
+            try {
+                FileObject resource = processingEnv.getFiler().getResource(location, "", resourcePath(resourceFolder, defaultFile));
+                URI uri = resource.toUri();
+                if ("file".equals(uri.getScheme())) {
+                    Path path = Paths.get(uri);
+                    if (Files.isRegularFile(path)) {
+                        return path.getParent();
+                    }
+                }
+            } catch (IOException | IllegalArgumentException ignored) {
+                // Location is not available, try the next one
+            }
+        }
+        return null;
+    }
+
+    private static String resourcePath(String resourceFolder, String fileName) {
+        return resourceFolder.isEmpty() ? fileName : resourceFolder + "/" + fileName;
+    }
+
+    private void checkTranslation(Element element, LanguageKeys settings, String locale, Map<String, String> messages, Map<String, Set<String>> placeholders) {
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : placeholders.entrySet()) {
+            String message = messages.get(entry.getKey());
+            if (message == null) {
+                missing.add(entry.getKey());
+                continue;
+            }
+            for (String placeholder : getPlaceholders(message, settings)) {
+                if (!entry.getValue().contains(placeholder)) {
+                    processingEnv.getMessager().printMessage(settings.strict() ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING,
+                            "Message " + entry.getKey() + " in locale " + locale + " uses placeholder "
+                                    + settings.placeholderPrefix() + placeholder + settings.placeholderSuffix()
+                                    + " which the " + settings.defaultLocale() + " message doesn't have!", element);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Locale " + locale + " is missing " + missing.size() + " key" + (missing.size() != 1 ? "s" : "") + ": "
+                            + String.join(", ", missing.subList(0, Math.min(missing.size(), MAX_LISTED_KEYS)))
+                            + (missing.size() > MAX_LISTED_KEYS ? ", ..." : ""), element);
+        }
+    }
+
+    private static Set<String> getPlaceholders(String message, LanguageKeys settings) {
+        Set<String> placeholders = new LinkedHashSet<>();
+        for (String placeholder : MessageTemplate.compile(message, settings.placeholderPrefix(), settings.placeholderSuffix()).getPlaceholders()) {
+            // Possible placeholders include the text between two delimiters (e.g. "50% off, 20% more" or "5%/%player%")
+            if (placeholder.chars().noneMatch(Character::isWhitespace) && placeholder.chars().anyMatch(Character::isLetterOrDigit)) {
+                placeholders.add(placeholder);
+            }
+        }
+        return placeholders;
+    }
+
+    private String generateSource(Element element, String packageName, String className, Map<String, String> defaults, Map<String, Set<String>> placeholders) {
+        Map<String, String> constants = new HashMap<>();
+        Map<String, String> methods = new HashMap<>();
+        boolean valid = true;
+
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("import de.themoep.utils.lang.LanguageConfig;\n");
+        sb.append("import de.themoep.utils.lang.LanguageManagerCore;\n");
+        sb.append("import de.themoep.utils.lang.MessageKey;\n\n");
+        sb.append("/**\n");
+        sb.append(" * Keys of all messages, generated from the language files by the lang-processor. Do not edit!\n");
+        sb.append(" */\n");
+        sb.append("public final class ").append(className).append(" {\n");
+
+        StringBuilder getters = new StringBuilder();
+        for (Map.Entry<String, String> entry : defaults.entrySet()) {
+            String key = entry.getKey();
+            String constant = toConstantName(key);
+            String previous = constants.put(constant, key);
+            if (previous != null) {
+                error(element, "Keys " + previous + " and " + key + " would both use the constant name " + constant + "!");
+                valid = false;
+                continue;
+            }
+            sb.append("\n    /** ").append(escapeDoc(key)).append(": ").append(escapeDoc(entry.getValue())).append(" */\n");
+            sb.append("    public static final MessageKey ").append(constant)
+                    .append(" = MessageKey.of(\"").append(escapeString(key)).append("\");\n");
+
+            Set<String> keyPlaceholders = placeholders.get(key);
+            if (!keyPlaceholders.isEmpty()) {
+                String method = toMethodName(key);
+                previous = methods.put(method, key);
+                if (previous != null) {
+                    error(element, "Keys " + previous + " and " + key + " would both use the method name " + method + "!");
+                    valid = false;
+                    continue;
+                }
+                appendGetters(getters, key, constant, method, entry.getValue(), keyPlaceholders);
+            }
+        }
+        sb.append(getters);
+        sb.append("\n    private ").append(className).append("() {}\n");
+        sb.append("}\n");
+        return valid ? sb.toString() : null;
+    }
+
+    private static void appendGetters(StringBuilder sb, String key, String constant, String method, String message, Set<String> placeholders) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        Set<String> used = new LinkedHashSet<>(Arrays.asList("config", "manager", "sender"));
+        for (String placeholder : placeholders) {
+            String parameter = toMethodName(placeholder);
+            for (int i = 2; !used.add(parameter); i++) {
+                parameter = toMethodName(placeholder) + i;
+            }
+            parameters.put(placeholder, parameter);
+        }
+
+        StringBuilder parameterList = new StringBuilder();
+        StringBuilder replacements = new StringBuilder();
+        StringBuilder doc = new StringBuilder();
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            parameterList.append(", Object ").append(parameter.getValue());
+            replacements.append(", \"").append(escapeString(parameter.getKey())).append("\", String.valueOf(").append(parameter.getValue()).append(")");
+            doc.append("     * @param ").append(parameter.getValue()).append(" The value of the ").append(escapeDoc(parameter.getKey())).append(" placeholder\n");
+        }
+
+        sb.append("\n    /**\n");
+        sb.append("     * Get the message ").append(escapeDoc(key)).append(": ").append(escapeDoc(message)).append("\n");
+        sb.append("     * @param config The config to get the message from\n");
+        sb.append(doc);
+        sb.append("     * @return The message with the placeholders replaced\n");
+        sb.append("     */\n");
+        sb.append("    public static String ").append(method).append("(LanguageConfig<?> config").append(parameterList).append(") {\n");
+        sb.append("        return config.get(").append(constant).append(replacements).append(");\n");
+        sb.append("    }\n");
+
+        sb.append("\n    /**\n");
+        sb.append("     * Get the message ").append(escapeDoc(key)).append(" in the language of a sender: ").append(escapeDoc(message)).append("\n");
+        sb.append("     * @param manager The manager to get the message from\n");
+        sb.append("     * @param sender The sender to get the message for\n");
+        sb.append(doc);
+        sb.append("     * @param <S> The command sender type\n");
+        sb.append("     * @return The message with the placeholders replaced\n");
+        sb.append("     */\n");
+        sb.append("    public static <S> String ").append(method).append("(LanguageManagerCore<S, ?> manager, S sender").append(parameterList).append(") {\n");
+        sb.append("        return manager.get(sender, ").append(constant).append(replacements).append(");\n");
+        sb.append("    }\n");
+    }
+
+    static String toConstantName(String key) {
+        StringBuilder sb = new StringBuilder();
+        char previous = '_';
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (Character.isUpperCase(c) && Character.isLowerCase(previous)) {
+                    sb.append('_');
+                }
+                sb.append(Character.toUpperCase(c));
+            } else if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '_') {
+                sb.append('_');
+            }
+            previous = c;
+        }
+        return toIdentifier(sb.toString());
+    }
+
+    static String toMethodName(String key) {
+        StringBuilder sb = new StringBuilder();
+        boolean upper = false;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(upper ? Character.toUpperCase(c) : (sb.length() == 0 ? Character.toLowerCase(c) : c));
+                upper = false;
+            } else {
+                upper = sb.length() > 0;
+            }
+        }
+        return toIdentifier(sb.toString());
+    }
+
+    private static String toIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name = "_" + name;
+        }
+        if (name.endsWith("_") && name.length() > 1) {
+            name = name.substring(0, name.length() - 1);
+        }
+        return SourceVersion.isKeyword(name) ? name + "_" : name;
+    }
+
+    private static String escapeString(String string) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String escapeDoc(String string) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '@':
+                    sb.append("&#64;");
+                    break;
+                case '/':
+                    sb.append("&#47;");
+                    break;
+                case '\\':
+                    // Unicode escapes are processed in comments too
+                    sb.append("&#92;");
+                    break;
+                case '\n':
+                    sb.append("<br>");
+                    break;
+                default:
+                    if (c >= 0x20) {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,162 @@
+package de.themoep.utils.lang.processor;
+
+/*
+ * lang - lang-processor
+ * Copyright (c) 2026 Max Lee aka Phoenix616 (mail@moep.tv)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+import de.themoep.utils.lang.LanguageConfig;
+import de.themoep.utils.lang.MessageKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LanguageKeysProcessorTest {
+    private static final String ENGLISH = "greeting:\n"
+            + "  message: \"Hello %player%!\"\n"
+            + "discount: \"5%/%player%\"\n"
+            + "plain: \"Use 50% of it\"\n"
+            + "lines:\n"
+            + "- \"One\"\n"
+            + "- \"Two %count%\"\n";
+
+    @TempDir
+    Path dir;
+
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    /**
+     * Compile an annotated class and one which uses the generated class with the processor
+     * @param annotation    The annotation of the class
+     * @param german        The content of the German language file
+     * @param usage         The body of a method which uses the generated class
+     * @return Whether or not the compilation succeeded
+     */
+    private boolean compile(String annotation, String german, String usage) throws IOException {
+        Path sources = Files.createDirectories(dir.resolve("src/example"));
+        Files.write(sources.resolve("Plugin.java"), ("package example;\n\n"
+                + "import de.themoep.utils.lang.LanguageKeys;\n\n"
+                + annotation + "\n"
+                + "public class Plugin {}\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Usage.java"), ("package example;\n\n"
+                + "import de.themoep.utils.lang.LanguageConfig;\n\n"
+                + "class Usage {\n"
+                + "    static String use(LanguageConfig<?> config) {\n"
+                + "        " + usage + "\n"
+                + "    }\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+
+        // The resources are processed before compiling
+        Path languages = Files.createDirectories(dir.resolve("classes/languages"));
+        Files.write(languages.resolve("lang.en.yml"), ENGLISH.getBytes(StandardCharsets.UTF_8));
+        Files.write(languages.resolve("lang.de.yml"), german.getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(dir.resolve("generated"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", LanguageKeysProcessor.class.getName(),
+                    "-d", dir.resolve("classes").toString(),
+                    "-s", dir.resolve("generated").toString());
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(
+                    sources.resolve("Plugin.java").toFile(), sources.resolve("Usage.java").toFile());
+            return compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        }
+    }
+
+    private List<String> getMessages(Diagnostic.Kind kind) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == kind)
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testGeneratedClass() throws Exception {
+        String german = "greeting:\n  message: \"Hallo %player%!\"\ndiscount: \"5%/%player%\"\n";
+        assertTrue(compile("@LanguageKeys", german, "return Messages.greetingMessage(config, \"Max\") + Messages.discount(config, 5);"),
+                () -> getMessages(Diagnostic.Kind.ERROR).toString());
+
+        String source = new String(Files.readAllBytes(dir.resolve("generated/example/Messages.java")), StandardCharsets.UTF_8);
+        assertTrue(source.contains("public static final MessageKey GREETING_MESSAGE = MessageKey.of(\"greeting.message\");"));
+        assertTrue(source.contains("public static String greetingMessage(LanguageConfig<?> config, Object player)"));
+
+        List<URL> urls = new ArrayList<>();
+        urls.add(dir.resolve("classes").toUri().toURL());
+        try (URLClassLoader loader = new URLClassLoader(urls.toArray(new URL[0]), getClass().getClassLoader())) {
+            Class<?> messages = loader.loadClass("example.Messages");
+            assertEquals("greeting.message", ((MessageKey) messages.getField("GREETING_MESSAGE").get(null)).getKey());
+            assertEquals("lines", ((MessageKey) messages.getField("LINES").get(null)).getKey());
+            // Only the placeholder between the delimiters is a parameter, not the text after "5%"
+            messages.getMethod("discount", LanguageConfig.class, Object.class);
+            messages.getMethod("lines", LanguageConfig.class, Object.class);
+            // Messages without placeholders only have a key
+            assertThrows(NoSuchMethodException.class, () -> messages.getMethod("plain", LanguageConfig.class));
+        }
+
+        assertEquals(Arrays.asList("Locale de is missing 2 keys: plain, lines"), getMessages(Diagnostic.Kind.WARNING));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        assertTrue(compile("@LanguageKeys", ENGLISH, "return null;"));
+        List<String> index = Files.readAllLines(dir.resolve("classes/languages/index.txt"), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("# Language files, generated by the lang-processor", "lang.de.yml", "lang.en.yml"), index);
+    }
+
+    @Test
+    public void testRemovedKey() throws Exception {
+        assertFalse(compile("@LanguageKeys", ENGLISH, "return config.get(Messages.REMOVED);"));
+        assertTrue(getMessages(Diagnostic.Kind.ERROR).stream().anyMatch(m -> m.contains("REMOVED")));
+    }
+
+    @Test
+    public void testUnknownPlaceholder() throws Exception {
+        String german = ENGLISH.replace("Hello %player%!", "Hallo %name%!");
+        assertFalse(compile("@LanguageKeys", german, "return null;"));
+        assertEquals(Arrays.asList("Message greeting.message in locale de uses placeholder %name% which the en message doesn't have!"),
+                getMessages(Diagnostic.Kind.ERROR));
+    }
+
+    @Test
+    public void testUnknownPlaceholderNotStrict() throws Exception {
+        String german = ENGLISH.replace("Hello %player%!", "Hallo %name%!");
+        assertTrue(compile("@LanguageKeys(strict = false)", german, "return null;"));
+        assertTrue(getMessages(Diagnostic.Kind.WARNING).contains("Message greeting.message in locale de uses placeholder %name% which the en message doesn't have!"));
+    }
+}
@@ -20,11 +20,13 @@ package de.themoep.utils.lang.simple;
 
 import de.themoep.utils.lang.LanguageConfig;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 import java.util.logging.Level;
 
@@ -44,14 +46,12 @@ public class SimpleLanguageConfig extends LanguageConfig<Properties> {
 
     @Override
     public void loadConfig() {
-        if (saveFile && configFile.exists()) {
-            try {
-                config = new Properties();
-                config.load(new FileReader(configFile));
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        try {
+            loadMessages();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+        clearCache();
     }
 
     @Override
@@ -63,19 +63,15 @@ public class SimpleLanguageConfig extends LanguageConfig<Properties> {
                 }
                 return false;
             }
-            defaultConfig = config = new Properties();
-            defaultConfig.load(in);
-            if (saveFile && !configFile.exists()) {
-                File parent = configFile.getParentFile();
-                if (!parent.exists()) {
-                    parent.mkdirs();
-                }
-                try {
-                    config.store(new FileWriter(configFile), languaged.getName() + " - " + getClass().getSimpleName() + " " + getLocale());
-                    return true;
-                } catch (IOException ex) {
-                    languaged.getLangLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
-                }
+            byte[] content = readResource(in);
+            this.defaultConfig = null;
+            if (!useCatalogs()) {
+                loadDefaults();
+            }
+            try {
+                return saveResource(content);
+            } catch (IOException ex) {
+                languaged.getLangLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
             }
         } catch (IOException ex) {
             languaged.getLangLogger().log(Level.SEVERE, "Could not load default config from " + resourcePath, ex);
@@ -83,6 +79,26 @@ public class SimpleLanguageConfig extends LanguageConfig<Properties> {
         return false;
     }
 
+    @Override
+    protected boolean useConfigFile() {
+        return saveFile && super.useConfigFile();
+    }
+
+    @Override
+    protected Properties parse(byte[] content, Properties defaults) throws IOException {
+        Properties config = new Properties();
+        config.load(new InputStreamReader(new ByteArrayInputStream(content)));
+        return config;
+    }
+
+    @Override
+    protected Properties parseDefaults(byte[] content) throws IOException {
+        // The bundled resource is read as ISO 8859-1 like properties files usually are
+        Properties defaultConfig = new Properties();
+        defaultConfig.load(new ByteArrayInputStream(content));
+        return defaultConfig;
+    }
+
     @Override
     public boolean contains(String key) {
         return contains(key, false);
@@ -90,20 +106,31 @@ public class SimpleLanguageConfig extends LanguageConfig<Properties> {
 
     @Override
     public boolean contains(String key, boolean checkDefault) {
-        return config.containsKey(key) || (checkDefault && defaultConfig != null && defaultConfig.containsKey(key));
+        return getMessages().contains(key, checkDefault);
     }
 
     @Override
     public String get(String key) {
-        String string = config.getProperty(key, defaultConfig != null ? defaultConfig.getProperty(key) : null);
-        if (string == null) {
-            return "Missing language key " + key + " for locale " + getLocale();
-        }
-        return string;
+        String string = getMessages().get(key);
+        return string != null ? string : getFallbackOrMissing(key);
     }
 
     @Override
     public Properties getRawConfig() {
-        return config;
+        try {
+            return loadRawConfig();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return config;
+        }
+    }
+
+    @Override
+    protected Map<String, String> flatten(Properties properties) {
+        Map<String, String> messages = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            messages.put(key, properties.getProperty(key));
+        }
+        return messages;
     }
 }
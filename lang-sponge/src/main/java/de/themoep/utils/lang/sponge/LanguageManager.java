@@ -20,12 +20,20 @@ package de.themoep.utils.lang.sponge;
 
 import de.themoep.utils.lang.LanguageManagerCore;
 import ninja.leaping.configurate.ConfigurationNode;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.living.humanoid.player.PlayerChangeClientSettingsEvent;
+import org.spongepowered.api.event.network.ClientConnectionEvent;
 
 import java.io.File;
+import java.util.logging.Level;
 
 public class LanguageManager extends LanguageManagerCore<CommandSource, ConfigurationNode> {
     private final Languaged plugin;
+    private volatile boolean cacheConfigs = false;
 
     public LanguageManager(Languaged plugin, String defaultLocale, SpongeLanguageConfig... configs) {
         this(plugin, "languages", defaultLocale, configs);
@@ -49,9 +57,51 @@ public class LanguageManager extends LanguageManagerCore<CommandSource, Configur
         loadConfigs();
     }
 
+    /**
+     * Cache the language config of each player instead of querying the provider every time
+     * and register the listeners required to keep the cache up to date. Listeners are only registered once.
+     * The {@link Languaged} instance of this manager needs to be the plugin's instance to do that.
+     * @return Whether or not the cache is enabled, it can't be if the {@link Languaged} instance isn't a plugin
+     */
+    public synchronized boolean enableConfigCache() {
+        if (!cacheConfigs) {
+            if (!Sponge.getPluginManager().fromInstance(plugin).isPresent()) {
+                plugin.getLangLogger().log(Level.WARNING, "Unable to cache player language configs as " + plugin.getName() + " isn't a plugin");
+                return false;
+            }
+            Sponge.getEventManager().registerListeners(plugin, new ConfigCacheListener());
+            cacheConfigs = true;
+        }
+        return cacheConfigs;
+    }
+
+    @Override
+    protected boolean isConfigCached(CommandSource sender) {
+        return cacheConfigs && sender instanceof Player && ((Player) sender).isOnline();
+    }
+
     @Override
     public void loadConfigs() {
         loadConfigs(plugin.getClass(), plugin.getLangLogger(), locale -> new SpongeLanguageConfig(plugin, getResourceFolder(),
                 new File(getFolder(), filePrefix + locale + fileSuffix), locale, saveFiles));
     }
+
+    public class ConfigCacheListener {
+
+        @Listener(order = Order.POST)
+        public void onSettingsChange(PlayerChangeClientSettingsEvent event) {
+            Player player = event.getTargetEntity();
+            clearCachedConfig(player);
+            // Make sure that a config which was cached with the old locale while the event was called gets removed
+            Sponge.getScheduler().createTaskBuilder().execute(() -> clearCachedConfig(player)).submit(plugin);
+        }
+
+        @Listener(order = Order.POST)
+        public void onDisconnect(ClientConnectionEvent.Disconnect event) {
+            Player player = event.getTargetEntity();
+            clearCachedConfig(player);
+            // The player is still online while the event is called, remove configs cached by later listeners too
+            Sponge.getScheduler().createTaskBuilder().execute(() -> clearCachedConfig(player)).submit(plugin);
+        }
+    }
 }
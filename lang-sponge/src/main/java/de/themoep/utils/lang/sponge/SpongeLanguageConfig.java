@@ -27,19 +27,19 @@ import ninja.leaping.configurate.yaml.YAMLConfigurationLoader;
 import org.spongepowered.api.text.format.TextColors;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
-import java.util.regex.Pattern;
 
 public class SpongeLanguageConfig extends LanguageConfig<ConfigurationNode> {
 
-    private static final Pattern KEY_PATTERN = Pattern.compile("\\.");
-
     private final Languaged plugin;
 
     public SpongeLanguageConfig(Languaged plugin, String resourceFolder, File configFile, String locale) {
@@ -55,13 +55,12 @@ public class SpongeLanguageConfig extends LanguageConfig<ConfigurationNode> {
 
     @Override
     public void loadConfig() {
-        if (configFile != null && configFile.exists()) {
-            try {
-                config = YAMLConfigurationLoader.builder().setIndent(2).setPath(configFile.toPath()).build().load();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        try {
+            loadMessages();
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+        clearCache();
     }
 
     @Override
@@ -73,22 +72,15 @@ public class SpongeLanguageConfig extends LanguageConfig<ConfigurationNode> {
                 }
                 return false;
             }
-
-            defaultConfig = config = YAMLConfigurationLoader.builder()
-                    .setIndent(2)
-                    .setSource(() -> new BufferedReader(new InputStreamReader(in)))
-                    .build().load();
-            if (saveFile && !configFile.exists()) {
-                File parent = configFile.getParentFile();
-                if (!parent.exists()) {
-                    parent.mkdirs();
-                }
-                try {
-                    Files.copy(in, configFile.toPath());
-                    return true;
-                } catch (IOException ex) {
-                    plugin.getLangLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
-                }
+            byte[] content = readResource(in);
+            this.defaultConfig = null;
+            if (!useCatalogs()) {
+                loadDefaults();
+            }
+            try {
+                return saveResource(content);
+            } catch (IOException ex) {
+                plugin.getLangLogger().log(Level.SEVERE, "Could not save " + configFile.getName() + " to " + configFile, ex);
             }
         } catch (IOException ex) {
             plugin.getLangLogger().log(Level.SEVERE, "Could not load default config from " + resourcePath, ex);
@@ -96,6 +88,14 @@ public class SpongeLanguageConfig extends LanguageConfig<ConfigurationNode> {
         return false;
     }
 
+    @Override
+    protected ConfigurationNode parse(byte[] content, ConfigurationNode defaults) throws IOException {
+        return YAMLConfigurationLoader.builder()
+                .setIndent(2)
+                .setSource(() -> new BufferedReader(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)))
+                .build().load();
+    }
+
     @Override
     public boolean contains(String key) {
         return contains(key, false);
@@ -103,38 +103,62 @@ public class SpongeLanguageConfig extends LanguageConfig<ConfigurationNode> {
 
     @Override
     public boolean contains(String key, boolean checkDefault) {
-        return !config.getNode(splitKey(key)).isVirtual() || (checkDefault && defaultConfig != null && !defaultConfig.getNode(splitKey(key)).isVirtual());
+        return getMessages().contains(key, checkDefault);
     }
 
     @Override
     public String get(String key) {
-        ConfigurationNode o = config.getNode(splitKey(key));
-        if (o.isVirtual() && defaultConfig != null) {
-            o = defaultConfig.getNode(splitKey(key));
-        }
-        String string = null;
-        if (o.getValueType() == ValueType.LIST) {
-            try {
-                List<String> stringList = o.getList(TypeToken.of(String.class));
-                string = String.join("\n", stringList);
-            } catch (ObjectMappingException e) {
-                e.printStackTrace();
-            }
-        } else {
-            string = o.getString();
-        }
-        if (string == null) {
-            return TextColors.RED + "Missing language key " + TextColors.YELLOW + key + TextColors.RED + " for locale " + TextColors.YELLOW + getLocale();
-        }
-        return string;
+        String string = getMessages().get(key);
+        return string != null ? string : getFallbackOrMissing(key);
+    }
+
+    @Override
+    protected String createMissingMessage(String key) {
+        return TextColors.RED + "Missing language key " + TextColors.YELLOW + key + TextColors.RED + " for locale " + TextColors.YELLOW + getLocale();
     }
 
     @Override
     public ConfigurationNode getRawConfig() {
-        return config;
+        try {
+            return loadRawConfig();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return config;
+        }
     }
 
-    private static Object[] splitKey(String key) {
-        return KEY_PATTERN.split(key);
+    /**
+     * Flatten a config into a map of dotted keys to their message so that lookups don't need to walk the node tree.
+     * Sections are included with a null message, lists are joined with line breaks and all other values
+     * (e.g. numbers and booleans) are converted to their string representation.
+     * @param node  The node to flatten
+     * @return A map of all keys to their message
+     */
+    @Override
+    protected Map<String, String> flatten(ConfigurationNode node) {
+        Map<String, String> messages = new HashMap<>();
+        flatten(messages, "", node);
+        return messages;
+    }
+
+    private static void flatten(Map<String, String> messages, String prefix, ConfigurationNode node) {
+        for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+            String key = prefix + entry.getKey();
+            ConfigurationNode child = entry.getValue();
+            String string = null;
+            if (child.getValueType() == ValueType.MAP) {
+                flatten(messages, key + ".", child);
+            } else if (child.getValueType() == ValueType.LIST) {
+                try {
+                    List<String> stringList = child.getList(TypeToken.of(String.class));
+                    string = String.join("\n", stringList);
+                } catch (ObjectMappingException e) {
+                    e.printStackTrace();
+                }
+            } else {
+                string = child.getString();
+            }
+            messages.put(key, string);
+        }
     }
 }
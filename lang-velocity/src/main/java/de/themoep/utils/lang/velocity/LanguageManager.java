@@ -19,14 +19,21 @@ package de.themoep.utils.lang.velocity;
  */
 
 import com.velocitypowered.api.command.CommandSource;
+import com.velocitypowered.api.event.PostOrder;
+import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.player.PlayerSettingsChangedEvent;
 import com.velocitypowered.api.proxy.Player;
+import com.velocitypowered.api.proxy.ProxyServer;
 import de.themoep.utils.lang.LanguageManagerCore;
 import ninja.leaping.configurate.ConfigurationNode;
 
 import java.io.File;
+import java.util.logging.Level;
 
 public class LanguageManager extends LanguageManagerCore<CommandSource, ConfigurationNode> {
     private final Languaged plugin;
+    private volatile boolean cacheConfigs = false;
 
     public LanguageManager(Languaged plugin, String defaultLocale, VelocityLanguageConfig... configs) {
         this(plugin, "languages", defaultLocale, configs);
@@ -55,9 +62,46 @@ public class LanguageManager extends LanguageManagerCore<CommandSource, Configur
         loadConfigs();
     }
 
+    /**
+     * Cache the language config of each player instead of querying the provider every time
+     * and register the listeners required to keep the cache up to date. Listeners are only registered once.
+     * The {@link Languaged} instance of this manager needs to be the plugin's instance to do that.
+     * @return Whether or not the cache is enabled, it can't be if the {@link Languaged#getProxy() proxy} is unknown
+     */
+    public synchronized boolean enableConfigCache() {
+        if (!cacheConfigs) {
+            ProxyServer proxy = plugin.getProxy();
+            if (proxy == null) {
+                plugin.getLangLogger().log(Level.WARNING, "Unable to cache player language configs as the proxy is unknown");
+                return false;
+            }
+            proxy.getEventManager().register(plugin, new ConfigCacheListener());
+            cacheConfigs = true;
+        }
+        return cacheConfigs;
+    }
+
+    @Override
+    protected boolean isConfigCached(CommandSource sender) {
+        return cacheConfigs && sender instanceof Player && ((Player) sender).isActive();
+    }
+
     @Override
     public void loadConfigs() {
         loadConfigs(plugin.getClass(), plugin.getLangLogger(), locale -> new VelocityLanguageConfig(plugin, getResourceFolder(),
                 new File(getFolder(), filePrefix + locale + fileSuffix), locale, saveFiles));
     }
+
+    public class ConfigCacheListener {
+
+        @Subscribe(order = PostOrder.LAST)
+        public void onSettingsChange(PlayerSettingsChangedEvent event) {
+            clearCachedConfig(event.getPlayer());
+        }
+
+        @Subscribe(order = PostOrder.LAST)
+        public void onDisconnect(DisconnectEvent event) {
+            clearCachedConfig(event.getPlayer());
+        }
+    }
 }
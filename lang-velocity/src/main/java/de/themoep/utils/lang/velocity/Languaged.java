@@ -18,6 +18,7 @@ package de.themoep.utils.lang.velocity;
  * along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+import com.velocitypowered.api.proxy.ProxyServer;
 import de.themoep.utils.lang.LangLogger;
 
 import java.io.File;
@@ -55,4 +56,13 @@ public interface Languaged {
         return getClass().getSimpleName();
     }
 
+    /**
+     * Get the proxy that the languaged object runs on, used to register listeners.
+     * Returns <code>null</code> by default
+     * @return The proxy or <code>null</code> if it is unknown
+     */
+    default ProxyServer getProxy() {
+        return null;
+    }
+
 }